@@ -31,11 +31,13 @@ public enum ErrorCode implements BaseErrorCode {
   ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "404_002", "방을 찾을 수 없습니다."),
   PLAYER_NOT_FOUND(HttpStatus.NOT_FOUND, "404_003", "사용자를 찾을 수 없습니다."),
   ROUND_STATE_NOT_FOUND(HttpStatus.NOT_FOUND, "404_004", "라운드 상태를 찾을 수 없습니다."),
+  REPLAY_NOT_FOUND(HttpStatus.NOT_FOUND, "404_005", "리플레이를 찾을 수 없습니다."),
 
 
   // 409 CONFLICT
   DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "409_001", "이미 존재하는 리소스입니다."),
   GAME_ALREADY_STARTED(HttpStatus.CONFLICT, "409_002", "게임이 이미 시작되었습니다."),
+  REPLAY_NOT_READY(HttpStatus.CONFLICT, "409_003", "아직 끝나지 않은 게임입니다."),
 
   // 500 INTERNAL SERVER ERROR
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500_001", "서버 내부 오류가 발생했습니다."),
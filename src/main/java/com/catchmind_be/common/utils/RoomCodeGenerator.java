@@ -3,14 +3,18 @@ package com.catchmind_be.common.utils;
 import org.springframework.stereotype.Component;
 import java.security.SecureRandom;
 
+// 방 코드는 추측할 수 없어야 하므로 SecureRandom 으로 뽑는다. 36^6 이라 겹치는 일은 드물고,
+// 겹치면 code 유니크 제약에 걸려 RoomService 가 새 코드로 다시 시도한다
 @Component
 public class RoomCodeGenerator {
+  public static final int CODE_LENGTH = 6;
+
   private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
   private static final SecureRandom RANDOM = new SecureRandom();
 
-  public String generateCode(int length) {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < length; i++) {
+  public String nextCode() {
+    StringBuilder sb = new StringBuilder(CODE_LENGTH);
+    for (int i = 0; i < CODE_LENGTH; i++) {
       sb.append(ALPHABET.charAt(RANDOM.nextInt(ALPHABET.length())));
     }
     return sb.toString();
@@ -0,0 +1,96 @@
+package com.catchmind_be.common.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 정답 비교(GuessMatcher)와 금칙어 가리기(AhoCorasick)가 같은 기준으로 글자를 접는다.
+ * NFKC 정규화 후 소문자로 바꾸고 공백을 뺀다. 전각 문자, 호환 자모, 합자 등이 여기서 한 모양으로 모인다.
+ */
+public final class TextFolding {
+
+  private TextFolding() {
+  }
+
+  public static String fold(String text) {
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    StringBuilder builder = new StringBuilder(normalized.length());
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (!isFoldedAway(c)) {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  // ASCII 와 완성형 한글 음절은 NFKC 에서 바뀌지 않는다
+  public static boolean needsNormalization(char c) {
+    return c >= 0x80 && (c < 0xAC00 || c > 0xD7A3);
+  }
+
+  public static boolean isFoldedAway(char c) {
+    return Character.isWhitespace(c) || Character.isSpaceChar(c);
+  }
+
+  /**
+   * fold 와 같은 결과에, 접은 글자마다 원문의 어느 구간 [start, end) 에서 왔는지를 붙여 돌려준다.
+   * 앞 글자와 합쳐질 수 있는 글자(결합 문자, 중성/종성 자모)는 앞 글자와 한 덩어리로 정규화하고,
+   * 그 덩어리에서 나온 글자는 모두 덩어리 전체 구간을 가리킨다.
+   */
+  public static Folded foldWithOrigins(String text) {
+    StringBuilder folded = new StringBuilder(text.length());
+    int[] starts = new int[text.length()];
+    int[] ends = new int[text.length()];
+    int start = 0;
+    while (start < text.length()) {
+      int end = start + Character.charCount(text.codePointAt(start));
+      while (end < text.length() && joinsPrevious(text.codePointAt(end))) {
+        end += Character.charCount(text.codePointAt(end));
+      }
+      String chunk = fold(text.substring(start, end));
+      for (int i = 0; i < chunk.length(); i++) {
+        int index = folded.length();
+        if (index == starts.length) {
+          starts = Arrays.copyOf(starts, index * 2);
+          ends = Arrays.copyOf(ends, index * 2);
+        }
+        folded.append(chunk.charAt(i));
+        starts[index] = start;
+        ends[index] = end;
+      }
+      start = end;
+    }
+    return new Folded(folded.toString(), starts, ends);
+  }
+
+  private static boolean joinsPrevious(int codePoint) {
+    int type = Character.getType(codePoint);
+    return type == Character.NON_SPACING_MARK
+        || type == Character.COMBINING_SPACING_MARK
+        || type == Character.ENCLOSING_MARK
+        // 조합형 중성/종성, 호환 자모 모음 (NFKC 에서 앞 초성과 음절로 합쳐진다)
+        || (codePoint >= 0x1160 && codePoint <= 0x11FF)
+        || (codePoint >= 0x314F && codePoint <= 0x3163);
+  }
+
+  public record Folded(String text, int[] starts, int[] ends) {
+
+    public int length() {
+      return text.length();
+    }
+
+    public char charAt(int index) {
+      return text.charAt(index);
+    }
+
+    public int start(int index) {
+      return starts[index];
+    }
+
+    public int end(int index) {
+      return ends[index];
+    }
+  }
+}
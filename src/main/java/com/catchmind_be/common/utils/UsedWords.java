@@ -0,0 +1,95 @@
+package com.catchmind_be.common.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * 한 게임에서 이미 낸 제시어 번호. 사전이 수십만 단어여도 방마다 전체 비트셋을 잡지 않도록
+ * 4096 개 단위 페이지로 나눠 처음 쓰는 페이지만 만든다. 방마다 난수기도 따로 들고 있어 락이 없다.
+ * 게임 상태와 같이 방 메일박스 안에서만 바꾼다.
+ */
+public final class UsedWords {
+
+  private static final int PAGE_SHIFT = 12;
+  private static final int PAGE_BITS = 1 << PAGE_SHIFT;
+  private static final int PAGE_MASK = PAGE_BITS - 1;
+
+  private final SplittableRandom random;
+  private long[][] pages = new long[0][];
+  private int count;
+
+  public UsedWords() {
+    this(new SplittableRandom());
+  }
+
+  UsedWords(SplittableRandom random) {
+    this.random = random;
+  }
+
+  public int count() {
+    return count;
+  }
+
+  public boolean isUsed(int position) {
+    int page = position >>> PAGE_SHIFT;
+    if (page >= pages.length || pages[page] == null) {
+      return false;
+    }
+    return (pages[page][(position & PAGE_MASK) >>> 6] & (1L << position)) != 0;
+  }
+
+  public void reset() {
+    pages = new long[0][];
+    count = 0;
+  }
+
+  /**
+   * 0 ~ size-1 중 아직 안 쓴 번호를 하나 골라 표시하고 돌려준다. 무작위 위치에서 시작해
+   * 비어 있는 다음 번호를 찾으며(끝에 닿으면 처음부터), 전부 썼으면 비우고 다시 고른다.
+   */
+  int claim(int size) {
+    if (count >= size) {
+      reset();
+    }
+    int start = random.nextInt(size);
+    int position = nextUnused(start, size);
+    if (position < 0) {
+      position = nextUnused(0, start);
+    }
+    mark(position);
+    return position;
+  }
+
+  // from 이상 to 미만에서 처음 비어 있는 번호. 없으면 -1
+  private int nextUnused(int from, int to) {
+    int position = from;
+    while (position < to) {
+      int page = position >>> PAGE_SHIFT;
+      if (page >= pages.length || pages[page] == null) {
+        return position;
+      }
+      int wordIndex = (position & PAGE_MASK) >>> 6;
+      // 이미 쓴 비트는 1 이므로 뒤집어서 position 이후의 0 비트를 찾는다
+      long free = ~pages[page][wordIndex] & (-1L << position);
+      if (free != 0) {
+        int found = (position & ~63) + Long.numberOfTrailingZeros(free);
+        return found < to ? found : -1;
+      }
+      position = (position & ~63) + 64;
+    }
+    return -1;
+  }
+
+  private void mark(int position) {
+    int page = position >>> PAGE_SHIFT;
+    if (page >= pages.length) {
+      long[][] grown = new long[page + 1][];
+      System.arraycopy(pages, 0, grown, 0, pages.length);
+      pages = grown;
+    }
+    if (pages[page] == null) {
+      pages[page] = new long[PAGE_BITS / Long.SIZE];
+    }
+    pages[page][(position & PAGE_MASK) >>> 6] |= 1L << position;
+    count++;
+  }
+}
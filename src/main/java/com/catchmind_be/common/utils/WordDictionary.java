@@ -0,0 +1,240 @@
+package com.catchmind_be.common.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제시어 사전. catchmind.words.path 에 UTF-8 텍스트 파일을 주면 메모리 맵으로 읽는다.
+ *
+ * <pre>
+ * 한 줄에 한 단어 : category \t difficulty \t word   (category, difficulty 는 생략 가능)
+ * '#' 로 시작하는 줄과 빈 줄은 건너뛴다
+ * </pre>
+ *
+ * 시작할 때 한 번 훑어서 단어마다 (offset, length) 만 int 배열에 적어 두고, 카테고리/난이도별로
+ * 단어 번호 목록을 만든다. 단어 문자열은 뽑힐 때만 맵에서 꺼내므로 수십만 단어도 힙을 거의 쓰지 않는다.
+ * 경로가 없거나 읽지 못하면 기본 단어 목록을 쓴다.
+ */
+@Slf4j
+@Component
+public class WordDictionary {
+
+  public static final String ANY_CATEGORY = "";
+  public static final int ANY_DIFFICULTY = -1;
+
+  private static final int[] EMPTY = new int[0];
+
+  static final List<String> DEFAULT_WORDS = List.of(
+      "사과", "자동차", "컴퓨터", "강아지", "산", "도시", "책", "나무", "바다", "별"
+  );
+
+  private final ByteBuffer words;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final int size;
+  // category -> difficulty -> 단어 번호
+  private final Map<String, Map<Integer, int[]>> index;
+
+  public WordDictionary(@Value("${catchmind.words.path:}") String path) {
+    ByteBuffer buffer = path == null || path.isBlank() ? null : map(Path.of(path));
+    if (buffer == null) {
+      buffer = ByteBuffer.wrap(String.join("\n", DEFAULT_WORDS).getBytes(StandardCharsets.UTF_8));
+    }
+    Builder builder = new Builder();
+    builder.scan(buffer);
+    if (builder.size == 0 && !DEFAULT_WORDS.isEmpty()) {
+      log.warn("Word dictionary {} has no words, using defaults", path);
+      buffer = ByteBuffer.wrap(String.join("\n", DEFAULT_WORDS).getBytes(StandardCharsets.UTF_8));
+      builder = new Builder();
+      builder.scan(buffer);
+    }
+    this.words = buffer;
+    this.offsets = Arrays.copyOf(builder.offsets, builder.size);
+    this.lengths = Arrays.copyOf(builder.lengths, builder.size);
+    this.size = builder.size;
+    this.index = builder.buildIndex();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public String word(int wordIndex) {
+    byte[] bytes = new byte[lengths[wordIndex]];
+    words.get(offsets[wordIndex], bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 조건에 맞는 단어 번호 목록. 둘 다 ANY 면 null 을 돌려주며 0 ~ size()-1 전체를 뜻한다.
+   */
+  public int[] indices(String category, int difficulty) {
+    String key = category == null ? ANY_CATEGORY : category;
+    if (ANY_CATEGORY.equals(key) && difficulty == ANY_DIFFICULTY) {
+      return null;
+    }
+    return index.getOrDefault(key, Map.of()).getOrDefault(difficulty, EMPTY);
+  }
+
+  private static ByteBuffer map(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, Files.size(path));
+      log.info("Loaded word dictionary {}", path);
+      return mapped;
+    } catch (IOException | RuntimeException exception) {
+      log.warn("Failed to map word dictionary {}, using defaults", path, exception);
+      return null;
+    }
+  }
+
+  private static final class Builder {
+
+    private int[] offsets = new int[1024];
+    private int[] lengths = new int[1024];
+    private int[] difficulties = new int[1024];
+    private String[] categories = new String[1024];
+    private int size;
+
+    private void scan(ByteBuffer buffer) {
+      int limit = buffer.limit();
+      int lineStart = 0;
+      while (lineStart < limit) {
+        int lineEnd = lineStart;
+        while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+          lineEnd++;
+        }
+        line(buffer, lineStart, lineEnd);
+        lineStart = lineEnd + 1;
+      }
+    }
+
+    private void line(ByteBuffer buffer, int start, int end) {
+      if (end > start && buffer.get(end - 1) == '\r') {
+        end--;
+      }
+      if (start >= end || buffer.get(start) == '#') {
+        return;
+      }
+      int firstTab = indexOf(buffer, start, end);
+      int secondTab = firstTab < 0 ? -1 : indexOf(buffer, firstTab + 1, end);
+
+      String category = ANY_CATEGORY;
+      int difficulty = 0;
+      int wordStart = start;
+      if (firstTab >= 0 && secondTab >= 0) {
+        category = text(buffer, start, firstTab).intern();
+        difficulty = parseDifficulty(buffer, firstTab + 1, secondTab);
+        wordStart = secondTab + 1;
+      } else if (firstTab >= 0) {
+        category = text(buffer, start, firstTab).intern();
+        wordStart = firstTab + 1;
+      }
+      if (wordStart >= end) {
+        return;
+      }
+      add(wordStart, end - wordStart, category, difficulty);
+    }
+
+    private void add(int offset, int length, String category, int difficulty) {
+      if (size == offsets.length) {
+        int capacity = size * 2;
+        offsets = Arrays.copyOf(offsets, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        difficulties = Arrays.copyOf(difficulties, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+      }
+      offsets[size] = offset;
+      lengths[size] = length;
+      difficulties[size] = difficulty;
+      categories[size] = category;
+      size++;
+    }
+
+    // (카테고리, 난이도) 마다, 그리고 한쪽이 ANY 인 조합마다 목록을 만든다. 둘 다 ANY 는 전체라 만들지 않는다
+    private Map<String, Map<Integer, int[]>> buildIndex() {
+      Map<String, Map<Integer, IntList>> lists = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        String category = categories[i];
+        int difficulty = difficulties[i];
+        append(lists, category, difficulty, i);
+        if (!ANY_CATEGORY.equals(category)) {
+          append(lists, category, ANY_DIFFICULTY, i);
+        }
+        append(lists, ANY_CATEGORY, difficulty, i);
+      }
+      Map<String, Map<Integer, int[]>> built = new HashMap<>();
+      lists.forEach((category, byDifficulty) -> {
+        Map<Integer, int[]> arrays = new HashMap<>();
+        byDifficulty.forEach((difficulty, list) -> arrays.put(difficulty, list.toArray()));
+        built.put(category, Map.copyOf(arrays));
+      });
+      // 스캔용 임시 배열은 버린다
+      categories = null;
+      difficulties = null;
+      return Map.copyOf(built);
+    }
+
+    private static void append(Map<String, Map<Integer, IntList>> lists, String category,
+        int difficulty, int wordIndex) {
+      lists.computeIfAbsent(category, key -> new HashMap<>())
+          .computeIfAbsent(difficulty, key -> new IntList()).add(wordIndex);
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int end) {
+      for (int i = from; i < end; i++) {
+        if (buffer.get(i) == '\t') {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private static int parseDifficulty(ByteBuffer buffer, int start, int end) {
+      int value = 0;
+      for (int i = start; i < end; i++) {
+        byte digit = buffer.get(i);
+        if (digit < '0' || digit > '9') {
+          return 0;
+        }
+        value = value * 10 + (digit - '0');
+      }
+      return value;
+    }
+
+    private static String text(ByteBuffer buffer, int start, int end) {
+      byte[] bytes = new byte[end - start];
+      buffer.get(start, bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class IntList {
+
+    private int[] values = new int[16];
+    private int size;
+
+    private void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
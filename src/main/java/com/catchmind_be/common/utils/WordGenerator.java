@@ -1,20 +1,36 @@
 package com.catchmind_be.common.utils;
 
-import java.security.SecureRandom;
-import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class WordGenerator {
 
-  private static final List<String> DEFAULT_WORDS = List.of(
-      "사과", "자동차", "컴퓨터", "강아지", "산", "도시", "책", "나무", "바다", "별"
-  );
+  private final WordDictionary dictionary;
+  private final int[] pool;
+  private final int poolSize;
 
-  private final SecureRandom random = new SecureRandom();
+  public WordGenerator(WordDictionary dictionary,
+      @Value("${catchmind.words.category:}") String category,
+      @Value("${catchmind.words.difficulty:-1}") int difficulty) {
+    this.dictionary = dictionary;
+    int[] indices = dictionary.indices(category, difficulty);
+    if (indices != null && indices.length == 0) {
+      log.warn("No words for category '{}' difficulty {}, using the whole dictionary",
+          category, difficulty);
+      indices = null;
+    }
+    this.pool = indices;
+    this.poolSize = indices == null ? dictionary.size() : indices.length;
+  }
 
-  public String randomWord() {
-    return DEFAULT_WORDS.get(random.nextInt(DEFAULT_WORDS.size()));
+  /**
+   * 이번 게임에서 아직 안 나온 단어를 고른다. 사전을 다 쓰면 처음부터 다시 돌린다.
+   */
+  public String nextWord(UsedWords usedWords) {
+    int position = usedWords.claim(poolSize);
+    return dictionary.word(pool == null ? position : pool[position]);
   }
 }
-
@@ -1,6 +1,12 @@
 package com.catchmind_be.config;
 
+import com.catchmind_be.websocket.codec.BinaryDrawMessageConverter;
+import com.catchmind_be.websocket.ratelimit.InboundRateLimitInterceptor;
+import java.util.List;
+import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,12 +14,18 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@AllArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  private final BinaryDrawMessageConverter binaryDrawMessageConverter;
+  private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    registry.enableSimpleBroker("/topic");
+    registry.enableSimpleBroker("/topic", "/queue");
     registry.setApplicationDestinationPrefixes("/app");
+    // 순번대로 브로커에 넣은 메시지가 세션별 전송 스레드에서 다시 섞이지 않게 한다
+    registry.setPreservePublishOrder(true);
   }
 
   @Override
@@ -21,4 +33,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
     registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
   }
-}
\ No newline at end of file
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(inboundRateLimitInterceptor);
+  }
+
+  // 바이너리 획 포맷은 SEND 프레임의 content-type 으로 선택한다. 없으면 기존 JSON 그대로
+  @Override
+  public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+    messageConverters.add(binaryDrawMessageConverter);
+    return true;
+  }
+}
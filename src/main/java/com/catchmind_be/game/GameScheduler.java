@@ -3,31 +3,33 @@ package com.catchmind_be.game;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Component
 public class GameScheduler {
 
-  private final ThreadPoolTaskScheduler taskScheduler;
-  private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+  private final RoundTimer roundTimer;
+  private final Map<Long, RoundTimer.Timeout> scheduledTasks = new ConcurrentHashMap<>();
 
-  public GameScheduler(@Qualifier("threadPoolTaskScheduler") ThreadPoolTaskScheduler taskScheduler) {
-    this.taskScheduler = taskScheduler;
+  public GameScheduler(RoundTimer roundTimer) {
+    this.roundTimer = roundTimer;
   }
 
+  // 이전 예약 취소와 새 예약 등록을 한 번의 compute 로 묶어 사이에 다른 예약이 끼지 못하게 한다.
+  // 이미 돌기 시작한 타임아웃은 취소되지 않으므로 작업 쪽에서 라운드 세대를 확인해야 한다
   public void schedule(Long roomId, Runnable task, Instant startAt) {
-    cancel(roomId);
-    ScheduledFuture<?> future = taskScheduler.schedule(task, startAt);
-    scheduledTasks.put(roomId, future);
+    scheduledTasks.compute(roomId, (id, previous) -> {
+      if (previous != null) {
+        previous.cancel();
+      }
+      return roundTimer.schedule(task, startAt);
+    });
   }
 
   public void cancel(Long roomId) {
-    ScheduledFuture<?> future = scheduledTasks.remove(roomId);
-    if (future != null) {
-      future.cancel(false);
+    RoundTimer.Timeout timeout = scheduledTasks.remove(roomId);
+    if (timeout != null) {
+      timeout.cancel();
     }
   }
 
@@ -1,23 +1,29 @@
 package com.catchmind_be.game;
 
-import com.catchmind_be.game.response.FinishedInfo;
 import com.catchmind_be.game.response.GameState;
 import com.catchmind_be.game.response.GuessResult;
+import com.catchmind_be.game.response.ScoreUpdatedEvent;
+import com.catchmind_be.journal.StrokeJournal;
 import com.catchmind_be.player.PlayerRepository;
+import com.catchmind_be.player.PlayerSlotRegistry;
 import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.websocket.CanvasRenderer;
+import com.catchmind_be.websocket.RoomEventLog;
+import com.catchmind_be.websocket.StrokeHistory;
 import com.catchmind_be.websocket.response.DrawMessage;
-import java.util.Arrays;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import com.catchmind_be.common.exception.CustomException;
 import com.catchmind_be.common.exception.code.ErrorCode;
 import com.catchmind_be.common.utils.WordGenerator;
 import com.catchmind_be.game.entity.GameStatus;
 import com.catchmind_be.game.entity.GameSession;
+import com.catchmind_be.game.entity.GuessMatcher;
+import com.catchmind_be.game.entity.GuessRound;
+import com.catchmind_be.game.entity.RoomState;
 import com.catchmind_be.game.response.GameEventMessage;
 import com.catchmind_be.player.entity.Player;
-import com.catchmind_be.player.response.PlayerResponse;
 import com.catchmind_be.room.RoomRepository;
+import com.catchmind_be.room.RoomSnapshotAssembler;
 import com.catchmind_be.room.entity.Room;
 import com.catchmind_be.room.entity.RoomStatus;
 import java.time.Instant;
@@ -34,14 +40,24 @@ public class GameService {
 
   private static final int SCORE_PER_SUCCESS = 100;
   private static final int DEFAULT_ROUND_DURATION_SECONDS = 60;
+  private static final String ROUND_TIMEOUT = "ROUND_TIMEOUT";
+  private static final String ROUND_COMPLETED = "ROUND_COMPLETED";
 
   private final RoomRepository roomRepository;
   private final PlayerRepository playerRepository;
+  private final PlayerSlotRegistry playerSlotRegistry;
   private final GameSessionRepository gameSessionRepository;
+  private final RoomStateRepository roomStateRepository;
   private final GameScheduler gameScheduler;
   private final TransactionTemplate transactionTemplate;
   private final SimpMessagingTemplate messagingTemplate;
   private final WordGenerator wordGenerator;
+  private final StrokeHistory strokeHistory;
+  private final CanvasRenderer canvasRenderer;
+  private final RoomEventLog roomEventLog;
+  private final StrokeJournal strokeJournal;
+  private final RoomCommandExecutor roomCommandExecutor;
+  private final RoomSnapshotAssembler roomSnapshotAssembler;
 
   @Transactional
   public GameState startGame(String roomCode) {
@@ -59,16 +75,36 @@ public class GameService {
       throw new CustomException(ErrorCode.GAME_ALREADY_STARTED);
     }
 
+    // 서버 재시작 등으로 번호가 비어 있는 플레이어도 게임 시작 시점에 채워 둔다
+    players.forEach(player -> playerSlotRegistry.assign(roomCode, String.valueOf(player.getId())));
+
     int duration = DEFAULT_ROUND_DURATION_SECONDS;
-    cancelScheduledTask(room.getId());
 
-    GameSession gameSession = gameSessionRepository.create(room.getId(), roomCode,totalRounds, duration);
-    gameSession.start(wordGenerator.randomWord(), players.getFirst().getId().toString(), joinOrder(players));
+    // 메모리 상태는 방 메일박스에서 바꾸고, DB 는 이 트랜잭션 안에서 바꾼다
+    GameSession gameSession = roomCommandExecutor.call(room.getId(), () -> {
+      // 같은 방에 동시에 들어온 시작 요청은 여기서 하나만 통과한다
+      gameSessionRepository.findByRoomCode(roomCode)
+          .filter(current -> GameStatus.IN_PROGRESS.equals(current.getStatus()))
+          .ifPresent(current -> {
+            throw new CustomException(ErrorCode.GAME_ALREADY_STARTED);
+          });
+      cancelScheduledTask(room.getId());
+
+      GameSession session = gameSessionRepository.create(room.getId(), roomCode,totalRounds, duration);
+      session.start(wordGenerator.nextWord(session.getUsedWords()), drawerOrder(players));
+
+      roomStateRepository.save(roomCode, RoomState.playing(session.getCurrentDrawerId()));
+      strokeHistory.clear(roomCode);
+      canvasRenderer.clear(roomCode);
+      strokeJournal.open(roomCode);
+
+      scheduleRoundTimeout(session, duration);
+      return session;
+    });
 
     room.setStatus(RoomStatus.PLAYING);
     roomRepository.save(room);
-
-    scheduleRoundTimeout(room.getId(), duration);
+    roomSnapshotAssembler.invalidate(roomCode);
 
     return GameState.toGameState(gameSession);
   }
@@ -79,50 +115,89 @@ public class GameService {
     return gameSessionRepository.getOrCreate(room);
   }
 
-  private void scheduleRoundTimeout(Long roomId, int durationSeconds) {
-    gameScheduler.schedule(roomId, () -> executeRoundTimeout(roomId),
+  private void scheduleRoundTimeout(GameSession gameSession, int durationSeconds) {
+    Long roomId = gameSession.getRoomId();
+    long generation = gameSession.getRoundGeneration();
+    // 스케줄러 스레드는 메일박스에 넣기만 하고 바로 돌아간다
+    gameScheduler.schedule(roomId,
+        () -> roomCommandExecutor.submit(roomId, () -> executeRoundTimeout(roomId, generation)),
         Instant.now().plusSeconds(durationSeconds));
   }
 
 
-  @Transactional(readOnly = true)
+  // 일은 메일박스 스레드가 자기 트랜잭션으로 하므로 여기서는 트랜잭션을 열지 않는다
   public void executeRoundTimeout(Long roomId) {
-    transactionTemplate.executeWithoutResult(status -> {
-      GameSession gameSession = getOrGreateGameSession(roomId);
+    runRoundTransition(roomId, null, ROUND_TIMEOUT);
+  }
+
+  /**
+   * 예약할 때의 라운드 세대가 지금과 다르면 아무것도 하지 않는다.
+   * cancel 이 이미 돌기 시작한 타임아웃은 막지 못하므로, 늦게 도착한 타임아웃이 새 라운드를 넘기지 않게 한다.
+   */
+  public void executeRoundTimeout(Long roomId, long generation) {
+    runRoundTransition(roomId, generation, ROUND_TIMEOUT);
+  }
+
+  // 모두 맞혀서 일찍 끝나는 라운드. 아직 걸려 있는 타임아웃을 내리고 타임아웃과 같은 전환을 한다
+  private void completeRoundEarly(Long roomId, long generation) {
+    runRoundTransition(roomId, generation, ROUND_COMPLETED);
+  }
+
+  private void runRoundTransition(Long roomId, Long generation, String endEventType) {
+    roomCommandExecutor.run(roomId, () -> transactionTemplate.executeWithoutResult(status -> {
+      // 게임이 끝나 세션이 지워진 뒤 늦게 온 타임아웃이 세션을 되살리지 않게 만들지 않고 찾기만 한다
+      GameSession gameSession = gameSessionRepository.findByRoomId(roomId).orElse(null);
+      if (gameSession == null) {
+        gameScheduler.cancel(roomId);
+        return;
+      }
+      if (generation != null && !gameSession.isRoundGeneration(generation)) {
+        return;
+      }
       // 진행중 아니면 스케줄러에서 삭제
       if (!GameStatus.IN_PROGRESS.equals(gameSession.getStatus())) {
         gameScheduler.cancel(roomId);
         return;
       }
-      RoomSnapshotResponse roomSnapshotResponse = buildRoomSnapshotResponse(gameSession.getRoomCode());
-      messagingTemplate.convertAndSend("/topic/rooms/" + roomSnapshotResponse.roomCode() + "/state",
-          roomSnapshotResponse);
+      if (ROUND_COMPLETED.equals(endEventType)) {
+        gameScheduler.cancel(roomId);
+      }
+      RoomSnapshotResponse roomSnapshotResponse = roomSnapshotAssembler.assemble(gameSession.getRoomCode());
+      String stateDestination = "/topic/rooms/" + roomSnapshotResponse.roomCode() + "/state";
+      roomEventLog.publish(roomSnapshotResponse.roomCode(), stateDestination, roomSnapshotResponse,
+          stamped -> messagingTemplate.convertAndSend(stateDestination, stamped));
+      // 라운드가 넘어가거나 게임이 끝나므로 커밋 뒤 캐시를 비운다
+      roomSnapshotAssembler.invalidate(roomSnapshotResponse.roomCode());
 
-      FinishedInfo finishedInfo = getFinishedInfo(gameSession);
+      boolean gameFinished = gameSession.isLastRound();
 
       broadcastGameEvent(gameSession.getRoomCode(), new GameEventMessage(
-          "ROUND_TIMEOUT",
+          endEventType,
           gameSession.getCurrentRound(),
           gameSession.getTotalRounds(),
           gameSession.getCurrentDrawerId(),
           gameSession.getWord(),
-          finishedInfo.isFinished()
+          gameFinished
       ));
 
-      if(!finishedInfo.isFinished()){
-        nextRound(gameSession, finishedInfo);
-        scheduleRoundTimeout(gameSession.getRoomId(), gameSession.getSecondsPerRound());
+      if(!gameFinished){
+        nextRound(gameSession);
+        scheduleRoundTimeout(gameSession, gameSession.getSecondsPerRound());
+        return;
       }
 
       gameSession.markCompleted();
       cleanupAfterGame(roomId);
-    });
+    }));
   }
 
 
-  private void nextRound(GameSession gameSession, FinishedInfo finishedInfo) {
-    String newWord = wordGenerator.randomWord();
-    gameSession.nextRound(newWord, finishedInfo.orderList().get(finishedInfo.nextIndex()));
+  private void nextRound(GameSession gameSession) {
+    String newWord = wordGenerator.nextWord(gameSession.getUsedWords());
+    gameSession.nextRound(newWord);
+    roomStateRepository.save(gameSession.getRoomCode(), RoomState.playing(gameSession.getCurrentDrawerId()));
+    strokeHistory.clear(gameSession.getRoomCode());
+    canvasRenderer.clear(gameSession.getRoomCode());
     broadcastGameEvent(gameSession.getRoomCode(), new GameEventMessage(
         "ROUND_STARTED",
         gameSession.getCurrentRound(),
@@ -133,95 +208,127 @@ public class GameService {
     ));
   }
 
-  public FinishedInfo getFinishedInfo(GameSession gameSession) {
-    List<String> orderList = getOrderList(gameSession.getDrawerOrder());
-    int nextIndex = gameSession.getCurrentOrderIndex() + 1;
-    boolean gameFinished = isFinished(gameSession, nextIndex, orderList);
-    return new FinishedInfo(
-        orderList,
-        nextIndex,
-        gameFinished
-    );
-  }
-
-
-
   @Transactional
   public void endGame(Long roomId) {
-    GameSession gameSession = getOrGreateGameSession(roomId);
-    if (GameStatus.IN_PROGRESS.equals(gameSession.getStatus())) {
-      gameSession.markCompleted();
-    } else {
-      gameSession.resetToIdle();
-    }
-    cleanupAfterGame(roomId);
+    Room room = roomRepository.findById(roomId)
+        .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+    // leaveRoom 트랜잭션 안에서 불리므로 DB 는 이 스레드에서 바꾸고 메일박스에는 메모리 상태만 넘긴다.
+    // 메일박스 쪽에서 같은 방 행을 건드리면 서로 잠금을 기다리게 된다
+    roomCommandExecutor.run(roomId, () -> {
+      GameSession gameSession = gameSessionRepository.getOrCreate(room);
+      if (GameStatus.IN_PROGRESS.equals(gameSession.getStatus())) {
+        gameSession.markCompleted();
+      } else {
+        gameSession.resetToIdle();
+      }
+      clearGameState(roomId, room.getCode());
+    });
+    room.setStatus(RoomStatus.WAITING);
+    roomRepository.save(room);
+    roomSnapshotAssembler.invalidate(room.getCode());
   }
 
   public GuessResult guessWord(String roomCode, String playerId ,String word) {
-    Room room = roomRepository.findByCode(roomCode)
-        .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
-
     if(word == null || word.isEmpty()) {
       return GuessResult.inCorrect();
     }
 
-    if(room.getStatus() == RoomStatus.WAITING) {
+    // 채팅마다 불리므로 정답 후보가 아니면 DB 를 보지 않고 메모리에서 거른다
+    GameSession gameSession = gameSessionRepository.findByRoomCode(roomCode).orElse(null);
+    if(gameSession == null || !GameStatus.IN_PROGRESS.equals(gameSession.getStatus())) {
       return GuessResult.inCorrect();
     }
 
-    GameSession gameSession =gameSessionRepository.getOrCreate(room);
-
     // 그리는 사람이면 안되게 해야해
     if(isDrawer(gameSession, playerId)) {
       return GuessResult.inCorrect();
     }
 
-    String currentWord = gameSession.getWord();
-    String normalizedWord = word.trim();
+    GuessRound round = gameSession.getGuessRound();
+    GuessMatcher guessMatcher = round.getMatcher();
+    if(!guessMatcher.matches(word)) {
+      return guessMatcher.isNearMiss(word)
+          ? GuessResult.nearMiss(gameSession, playerId)
+          : GuessResult.inCorrect();
+    }
 
-    if(!currentWord.equals(normalizedWord)) {
+    // 번호는 입장과 게임 시작 때만 붙인다. 이 방에서 번호를 받지 않았거나 id 가 숫자가 아니면
+    // 방에 없는 사람이므로 표시하지 않는다. 그래야 모두 맞혔는지 셀 때 엉뚱한 번호가 끼지 않는다
+    Long id = parsePlayerId(playerId);
+    int slot = playerSlotRegistry.slotOf(playerId);
+    if (id == null || slot == PlayerSlotRegistry.NO_SLOT || !playerId.equals(playerSlotRegistry.playerIdAt(roomCode, slot))) {
       return GuessResult.inCorrect();
     }
+    // 메일박스를 기다리지 않고 읽어 둔 라운드 객체에 바로 표시한다. 같은 라운드에 다시 맞혀도 점수는 한 번만.
+    // 그사이 라운드가 넘어갔으면 새 라운드에는 표시가 남지 않고, 여기서 세대를 다시 봐서 점수도 주지 않는다
+    if (!round.markGuessed(slot) || !gameSession.isRoundGeneration(round.getGeneration())) {
+      return GuessResult.inCorrect();
+    }
+    boolean roundComplete = round.hasAllGuessed(guesserSlots(gameSession));
+
+    // 더하고 다시 읽는 두 문장을 한 트랜잭션에 묶어, 더한 뒤의 점수를 다른 정답과 섞이지 않게 읽는다
+    Integer score = transactionTemplate.execute(status -> playerRepository.addScore(id, SCORE_PER_SUCCESS) == 0
+        ? null
+        : playerRepository.findScoreById(id));
+    if (score == null) {
+      throw new CustomException(ErrorCode.PLAYER_NOT_FOUND);
+    }
+    roomSnapshotAssembler.invalidate(roomCode);
 
-    Player player = playerRepository.findById(Long.parseLong(playerId)).orElseThrow(
-        () -> new CustomException(ErrorCode.PLAYER_NOT_FOUND)
-    );
-    player.setScore(player.getScore() + SCORE_PER_SUCCESS);
-    playerRepository.save(player);
+    // 그리는 사람을 뺀 모두가 맞혔으면 타임아웃을 기다리지 않고 라운드를 넘긴다.
+    // 점수 반영 뒤에 메일박스에 넣기만 하고, 그사이 타임아웃이 먼저 돌았으면 세대가 달라 무시된다
+    if (roundComplete) {
+      Long roomId = gameSession.getRoomId();
+      roomCommandExecutor.submit(roomId, () -> completeRoundEarly(roomId, round.getGeneration()));
+    }
 
-    return new GuessResult(true, gameSession);
+    return GuessResult.correct(gameSession, playerId, score, round.getNumber());
+  }
+
+  private static Long parsePlayerId(String playerId) {
+    try {
+      return Long.valueOf(playerId);
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  private long guesserSlots(GameSession gameSession) {
+    long occupied = playerSlotRegistry.occupiedSlots(gameSession.getRoomCode());
+    int drawerSlot = playerSlotRegistry.slotOf(gameSession.getCurrentDrawerId());
+    return drawerSlot == PlayerSlotRegistry.NO_SLOT ? occupied : occupied & ~(1L << drawerSlot);
   }
 
-  @Transactional(readOnly = true)
   public boolean canDraw(String roomCode, DrawMessage drawMessage) {
-    Room room = roomRepository.findByCode(roomCode)
-        .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
-    GameSession gameSession = gameSessionRepository.getOrCreate(room);
-    String drawerId = drawMessage.playerId();
-    return room.getStatus() == RoomStatus.PLAYING && drawerId.equals(gameSession.getCurrentDrawerId());
+    return isCurrentDrawer(roomCode, drawMessage.playerId());
   }
 
-  private boolean isDrawer(GameSession gameSession, String playerId) {
-    return gameSession.getCurrentDrawerId().equals(playerId);
+  /**
+   * 보낸 사람이 지금 그리는 사람이면 이번 라운드 정답을, 아니면 null 을 돌려준다. 채팅 필터가 쓴다.
+   */
+  public String drawerAnswer(String roomCode, String playerId) {
+    if (!isCurrentDrawer(roomCode, playerId)) {
+      return null;
+    }
+    return gameSessionRepository.findByRoomCode(roomCode)
+        .map(GameSession::getWord)
+        .orElse(null);
   }
 
-  public boolean isFinished(GameSession gameSession, int nextIndex, List<String> orderList) {
-    return nextIndex >= orderList.size() || nextIndex >= gameSession.getTotalRounds();
+  private boolean isCurrentDrawer(String roomCode, String playerId) {
+    // 획과 채팅마다 호출되므로 DB 대신 메모리 상태만 본다
+    RoomState roomState = roomStateRepository.find(roomCode);
+    return roomState != null && roomState.isDrawer(playerId);
   }
 
-  private String joinOrder(List<Player> players) {
-    return players.stream()
-        .map(player -> String.valueOf(player.getId()))
-        .collect(Collectors.joining(","));
+  private boolean isDrawer(GameSession gameSession, String playerId) {
+    return gameSession.getCurrentDrawerId().equals(playerId);
   }
 
-  private List<String> getOrderList(String drawerOrder) {
-    if (drawerOrder == null || drawerOrder.isBlank()) {
-      return List.of();
-    }
-    return Arrays.stream(drawerOrder.split(","))
-        .filter(token -> !token.isBlank())
-        .toList();
+  private long[] drawerOrder(List<Player> players) {
+    return players.stream()
+        .mapToLong(Player::getId)
+        .toArray();
   }
 
 
@@ -230,37 +337,39 @@ public class GameService {
   }
 
   private void cleanupAfterGame(Long roomId) {
-    roomRepository.findById(roomId).ifPresent(room -> {
+    roomRepository.findById(roomId).ifPresentOrElse(room -> {
       room.setStatus(RoomStatus.WAITING);
       roomRepository.save(room);
-    });
+      clearGameState(roomId, room.getCode());
+    }, () -> clearGameState(roomId, null));
+  }
+
+  private void clearGameState(Long roomId, String roomCode) {
+    if (roomCode != null) {
+      roomStateRepository.remove(roomCode);
+      strokeHistory.clear(roomCode);
+      canvasRenderer.clear(roomCode);
+      strokeJournal.roll(roomCode);
+    }
     gameSessionRepository.remove(roomId);
     gameScheduler.cancel(roomId);
   }
 
 
-  private RoomSnapshotResponse buildRoomSnapshotResponse(String roomCode) {
-    Room room = roomRepository.findByCode(roomCode)
-        .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
-
-    List<PlayerResponse> players = playerRepository.findPlayersByRoomCodeOrdered(room.getCode())
-        .stream()
-        .map(PlayerResponse::from)
-        .toList();
-
-    GameSession gameSession = gameSessionRepository.getOrCreate(room);
-
-    return new RoomSnapshotResponse(
-        room.getCode(),
-        room.getHostPlayerId(),
-        players,
-        room.getStatus().name(),
-        gameSession.getTotalRounds(),
-        gameSession.getCurrentRound()
+  public void broadcastScoreUpdated(String roomCode, GuessResult guessResult) {
+    String destination = "/topic/rooms/" + roomCode + "/game";
+    ScoreUpdatedEvent event = new ScoreUpdatedEvent(
+        guessResult.playerId(),
+        guessResult.score(),
+        guessResult.round()
     );
+    roomEventLog.publish(roomCode, destination, event, stamped -> messagingTemplate.convertAndSend(destination, stamped));
   }
 
   public void broadcastGameEvent(String roomCode, GameEventMessage startEvent){
-    messagingTemplate.convertAndSend("/topic/rooms/" + roomCode + "/game", startEvent);
+    String destination = "/topic/rooms/" + roomCode + "/game";
+    roomEventLog.publish(roomCode, destination, startEvent,
+        stamped -> messagingTemplate.convertAndSend(destination, stamped));
   }
+
 }
@@ -2,9 +2,12 @@ package com.catchmind_be.game;
 
 import com.catchmind_be.game.entity.GameSession;
 import com.catchmind_be.room.entity.Room;
+import java.util.Optional;
 
 public interface GameSessionRepository {
   GameSession create(Long roomId, String roomCode, int totalRounds, int secondsPerRound);
   GameSession getOrCreate(Room room);
+  Optional<GameSession> findByRoomId(Long roomId);
+  Optional<GameSession> findByRoomCode(String roomCode);
   void remove(Long roomId);
 }
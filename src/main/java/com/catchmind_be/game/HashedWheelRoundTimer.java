@@ -0,0 +1,216 @@
+package com.catchmind_be.game;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시 휠 타이머. 방이 수만 개여도 라운드마다 하는 등록/취소가 O(1) 이다.
+ * 등록과 취소는 큐에 넣기만 하고, 휠과 버킷은 작업 스레드 하나만 만지므로 락이 없다.
+ * 정밀도는 tick 단위(기본 100ms)라 초 단위 라운드 타임아웃에는 충분하다.
+ * 만료된 작업은 작업 스레드에서 바로 돌리므로 짧게 끝나야 한다 (GameService 는 메일박스에 넣기만 한다).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catchmind.game.timer.backend", havingValue = "hashed-wheel")
+public class HashedWheelRoundTimer implements RoundTimer {
+
+  private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long startNanos = System.nanoTime();
+  private final Queue<WheelTimeout> pending = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+  private final Thread worker;
+  private volatile boolean running = true;
+  // 작업 스레드에서만 쓴다
+  private long tick;
+
+  public HashedWheelRoundTimer(
+      @Value("${catchmind.game.timer.tick-ms:100}") long tickMillis,
+      @Value("${catchmind.game.timer.wheel-size:512}") int wheelSize) {
+    this.tickNanos = Duration.ofMillis(Math.max(tickMillis, 1)).toNanos();
+    int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+    this.wheel = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = size - 1;
+    this.worker = new Thread(this::run, "round-timer-wheel");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @Override
+  public Timeout schedule(Runnable task, Instant startAt) {
+    long delayNanos = Math.max(0L, Duration.between(Instant.now(), startAt).toNanos());
+    WheelTimeout timeout = new WheelTimeout(task, System.nanoTime() - startNanos + delayNanos);
+    pending.add(timeout);
+    return timeout;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    worker.interrupt();
+  }
+
+  private void run() {
+    while (running) {
+      if (!waitForNextTick()) {
+        continue;
+      }
+      removeCancelled();
+      transferPending();
+      wheel[(int) (tick & mask)].expire();
+      tick++;
+    }
+  }
+
+  // 다음 tick 시각까지 기다린다. 종료 중이면 false
+  private boolean waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    while (running) {
+      long sleepNanos = deadline - (System.nanoTime() - startNanos);
+      if (sleepNanos <= 0) {
+        return true;
+      }
+      LockSupport.parkNanos(this, sleepNanos);
+    }
+    return false;
+  }
+
+  private void transferPending() {
+    for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+      WheelTimeout timeout = pending.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.state != WheelTimeout.INIT) {
+        continue;
+      }
+      long calculated = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (calculated - tick) / wheel.length;
+      // 이미 지난 tick 이면 이번 tick 버킷에 넣어 바로 만료시킨다
+      long ticks = Math.max(calculated, tick);
+      wheel[(int) (ticks & mask)].add(timeout);
+    }
+  }
+
+  private void removeCancelled() {
+    WheelTimeout timeout;
+    while ((timeout = cancelled.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private final class WheelTimeout implements Timeout {
+
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final Runnable task;
+    private final long deadline;
+    private volatile int state = INIT;
+
+    // 아래는 작업 스레드에서만 쓴다
+    private long remainingRounds;
+    private Bucket bucket;
+    private WheelTimeout prev;
+    private WheelTimeout next;
+
+    private WheelTimeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+        return false;
+      }
+      cancelled.add(this);
+      return true;
+    }
+
+    private void expire() {
+      if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+        return;
+      }
+      try {
+        task.run();
+      } catch (Throwable throwable) {
+        log.warn("Round timeout task failed", throwable);
+      }
+    }
+  }
+
+  // 버킷은 이중 연결 리스트라 취소된 항목을 O(1) 로 뺀다
+  private static final class Bucket {
+
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    private void add(WheelTimeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    private void expire() {
+      WheelTimeout timeout = head;
+      while (timeout != null) {
+        WheelTimeout next = timeout.next;
+        if (timeout.state == WheelTimeout.CANCELLED) {
+          remove(timeout);
+        } else if (timeout.remainingRounds <= 0) {
+          // 이 버킷에 들어온 tick 이 지났으므로 deadline 도 이미 지났다
+          remove(timeout);
+          timeout.expire();
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    private void remove(WheelTimeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      } else {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
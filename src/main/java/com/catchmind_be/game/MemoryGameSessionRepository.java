@@ -3,6 +3,7 @@ package com.catchmind_be.game;
 import com.catchmind_be.game.entity.GameSession;
 import com.catchmind_be.room.entity.Room;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Repository;
 
@@ -10,11 +11,16 @@ import org.springframework.stereotype.Repository;
 public class MemoryGameSessionRepository implements GameSessionRepository {
 
   private final Map<Long, GameSession> roundStates = new ConcurrentHashMap<>();
+  // 채팅 경로는 방 코드만 알고 있어서 코드로도 바로 찾을 수 있게 둔다
+  private final Map<String, GameSession> roundStatesByCode = new ConcurrentHashMap<>();
 
   @Override
   public GameSession create(Long roomId, String roomCode, int totalRounds, int secondsPerRound) {
     GameSession state = GameSession.create(roomId,roomCode,totalRounds, secondsPerRound);
     roundStates.put(roomId, state);
+    if (roomCode != null) {
+      roundStatesByCode.put(roomCode, state);
+    }
     return state;
   }
 
@@ -27,8 +33,24 @@ public class MemoryGameSessionRepository implements GameSessionRepository {
     return gameSession;
   }
 
+  @Override
+  public Optional<GameSession> findByRoomId(Long roomId) {
+    return Optional.ofNullable(roundStates.get(roomId));
+  }
+
+  @Override
+  public Optional<GameSession> findByRoomCode(String roomCode) {
+    if (roomCode == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(roundStatesByCode.get(roomCode));
+  }
+
   @Override
   public void remove(Long roomId) {
-    roundStates.remove(roomId);
+    GameSession removed = roundStates.remove(roomId);
+    if (removed != null && removed.getRoomCode() != null) {
+      roundStatesByCode.remove(removed.getRoomCode(), removed);
+    }
   }
 }
@@ -0,0 +1,28 @@
+package com.catchmind_be.game;
+
+import com.catchmind_be.game.entity.RoomState;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Repository;
+
+// 그림 릴레이가 DB를 거치지 않도록 방 코드 기준으로 상태와 현재 출제자를 들고 있는 저장소
+@Repository
+public class MemoryRoomStateRepository implements RoomStateRepository {
+
+  private final Map<String, RoomState> roomStates = new ConcurrentHashMap<>();
+
+  @Override
+  public RoomState find(String roomCode) {
+    return roomStates.get(roomCode);
+  }
+
+  @Override
+  public void save(String roomCode, RoomState roomState) {
+    roomStates.put(roomCode, roomState);
+  }
+
+  @Override
+  public void remove(String roomCode) {
+    roomStates.remove(roomCode);
+  }
+}
@@ -0,0 +1,152 @@
+package com.catchmind_be.game;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 방마다 메일박스를 하나씩 두고, 그 방의 게임 상태 변경은 전부 여기로 넣어 한 번에 하나씩 처리한다.
+// 메일박스는 쌓인 명령이 있을 때만 가상 스레드 하나가 비우므로 방끼리는 서로 막지 않고 병렬로 돈다.
+@Slf4j
+@Component
+public class RoomCommandExecutor {
+
+  // 지금 스레드가 비우고 있는 방. 명령 안에서 같은 방 명령을 또 부르면 기다리지 않고 바로 실행한다
+  private static final ThreadLocal<Long> CURRENT_ROOM = new ThreadLocal<>();
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+  /**
+   * 명령을 방 메일박스에 넣고 끝날 때까지 기다려 결과를 돌려준다. 명령이 던진 예외는 그대로 다시 던진다.
+   */
+  public <T> T call(Long roomId, Supplier<T> command) {
+    if (Objects.equals(CURRENT_ROOM.get(), roomId)) {
+      return command.get();
+    }
+    CompletableFuture<T> result = new CompletableFuture<>();
+    enqueue(roomId, () -> {
+      try {
+        result.complete(command.get());
+      } catch (Throwable throwable) {
+        result.completeExceptionally(throwable);
+      }
+    });
+    try {
+      return result.join();
+    } catch (CompletionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw exception;
+    }
+  }
+
+  public void run(Long roomId, Runnable command) {
+    call(roomId, () -> {
+      command.run();
+      return null;
+    });
+  }
+
+  /**
+   * 결과를 기다리지 않고 넣기만 한다. 스케줄러 스레드처럼 막히면 안 되는 곳에서 쓴다.
+   */
+  public void submit(Long roomId, Runnable command) {
+    enqueue(roomId, () -> {
+      try {
+        command.run();
+      } catch (RuntimeException exception) {
+        log.warn("Room command failed for room {}", roomId, exception);
+      }
+    });
+  }
+
+  // 방이 없어질 때 부른다. 아직 처리 중이거나 쌓인 명령이 있으면 다 비운 뒤에 메일박스가 스스로 빠진다
+  public void remove(Long roomId) {
+    Mailbox mailbox = mailboxes.get(roomId);
+    if (mailbox != null) {
+      mailbox.removeWhenIdle = true;
+      mailbox.removeIfIdle();
+    }
+  }
+
+  int size() {
+    return mailboxes.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  // 명령 넣기와 remove 의 비었는지 확인이 같은 키의 compute 안에서 일어나므로,
+  // 명령이 든 메일박스가 지워져 같은 방에 메일박스가 둘 생기는 일은 없다
+  private void enqueue(Long roomId, Runnable command) {
+    Mailbox mailbox = mailboxes.compute(roomId, (id, existing) -> {
+      Mailbox target = existing == null ? new Mailbox(id) : existing;
+      target.commands.add(command);
+      return target;
+    });
+    mailbox.schedule();
+  }
+
+  private final class Mailbox {
+
+    private final Long roomId;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean removeWhenIdle;
+
+    private Mailbox(Long roomId) {
+      this.roomId = roomId;
+    }
+
+    private void schedule() {
+      if (draining.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private boolean isIdle() {
+      return !draining.get() && commands.isEmpty();
+    }
+
+    private void removeIfIdle() {
+      mailboxes.computeIfPresent(roomId, (id, mailbox) -> mailbox == this && isIdle() ? null : mailbox);
+    }
+
+    private void drain() {
+      CURRENT_ROOM.set(roomId);
+      try {
+        do {
+          Runnable command;
+          while ((command = commands.poll()) != null) {
+            command.run();
+          }
+          draining.set(false);
+          // 내려놓는 사이에 들어온 명령이 있으면 다시 잡아서 비운다
+        } while (!commands.isEmpty() && draining.compareAndSet(false, true));
+      } finally {
+        CURRENT_ROOM.remove();
+      }
+      if (removeWhenIdle) {
+        removeIfIdle();
+      }
+    }
+  }
+}
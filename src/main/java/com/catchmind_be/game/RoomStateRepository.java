@@ -0,0 +1,9 @@
+package com.catchmind_be.game;
+
+import com.catchmind_be.game.entity.RoomState;
+
+public interface RoomStateRepository {
+  RoomState find(String roomCode);
+  void save(String roomCode, RoomState roomState);
+  void remove(String roomCode);
+}
@@ -0,0 +1,14 @@
+package com.catchmind_be.game;
+
+import java.time.Instant;
+
+// GameScheduler 가 라운드 타임아웃을 거는 타이머. catchmind.game.timer.backend 로 구현을 고른다
+public interface RoundTimer {
+
+  Timeout schedule(Runnable task, Instant startAt);
+
+  interface Timeout {
+    // 아직 실행 전이라 취소됐으면 true
+    boolean cancel();
+  }
+}
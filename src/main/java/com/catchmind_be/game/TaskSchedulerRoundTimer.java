@@ -0,0 +1,26 @@
+package com.catchmind_be.game;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+// 기본 구현. ThreadPoolTaskScheduler 의 힙에 넣으므로 등록/취소가 O(log n) 이다
+@Component
+@ConditionalOnProperty(name = "catchmind.game.timer.backend", havingValue = "task-scheduler", matchIfMissing = true)
+public class TaskSchedulerRoundTimer implements RoundTimer {
+
+  private final ThreadPoolTaskScheduler taskScheduler;
+
+  public TaskSchedulerRoundTimer(@Qualifier("threadPoolTaskScheduler") ThreadPoolTaskScheduler taskScheduler) {
+    this.taskScheduler = taskScheduler;
+  }
+
+  @Override
+  public Timeout schedule(Runnable task, Instant startAt) {
+    ScheduledFuture<?> future = taskScheduler.schedule(task, startAt);
+    return () -> future.cancel(false);
+  }
+}
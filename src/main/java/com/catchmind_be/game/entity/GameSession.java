@@ -1,23 +1,36 @@
 package com.catchmind_be.game.entity;
 
+import com.catchmind_be.common.utils.UsedWords;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
 public class GameSession {
 
+  // 세션이 새로 만들어져도 겹치지 않도록 라운드 세대 번호는 전역에서 뽑는다
+  private static final AtomicLong GENERATIONS = new AtomicLong();
+
   private final Long roomId;
   private final String roomCode;
   private final int totalRounds;
   private final int secondsPerRound;
   private int currentRound;
-  private String drawerOrder;
-  private String currentDrawerId;
-  private String word;
+  // 그리는 순서(플레이어 id)와 지금 몇 번째인지. 배열을 밖으로 내주면 순서를 고칠 수 있으므로 getter 를 두지 않는다
+  @Getter(AccessLevel.NONE)
+  private long[] drawerOrder = new long[0];
+  // 채팅 경로가 메일박스 밖에서 읽는 필드는 volatile 로 둔다
+  private volatile String currentDrawerId;
+  private volatile String word;
   private int currentOrderIndex;
   private Instant roundStartedAt;
   private Instant roundEndsAt;
-  private GameStatus status;
+  private volatile GameStatus status;
+  // 라운드가 시작/종료될 때마다 새로 만든다. 예약된 타임아웃은 건 시점의 세대와 다르면 아무것도 하지 않는다
+  private volatile GuessRound guessRound;
+  // 이번 게임에서 이미 낸 제시어. 게임마다 세션을 새로 만드므로 따로 비우지 않는다. 메일박스 안에서만 쓴다
+  private final UsedWords usedWords = new UsedWords();
 
   private GameSession(Long roomId, String roomCode,int totalRounds, int secondsPerRound) {
     this.roomId = roomId;
@@ -31,31 +44,62 @@ public class GameSession {
     return new GameSession(roomId, roomCode, totalRounds, secondsPerRound);
   }
 
-  public void start(String word, String currentDrawerId, String drawerOrder) {
+  public void start(String word, long[] drawerOrder) {
+    if (drawerOrder.length == 0) {
+      throw new IllegalArgumentException("drawerOrder must not be empty");
+    }
     Instant now = Instant.now();
-    this.drawerOrder = drawerOrder;
-    this.currentDrawerId = currentDrawerId;
+    this.drawerOrder = drawerOrder.clone();
+    this.currentDrawerId = String.valueOf(drawerOrder[0]);
     this.word = word;
     this.currentOrderIndex = 0;
     this.currentRound = 1;
     this.status = GameStatus.IN_PROGRESS;
+    this.guessRound = newRound(GuessMatcher.of(word));
     this.roundStartedAt = now;
     this.roundEndsAt = now.plusSeconds(secondsPerRound);
   }
 
-  public void nextRound(String word, String currentDrawerId) {
+  public void nextRound(String word) {
     Instant now = Instant.now();
+    this.currentDrawerId = String.valueOf(nextDrawer());
     this.word = word;
-    this.currentDrawerId = currentDrawerId;
     this.currentOrderIndex += 1;
     this.currentRound += 1;
+    this.guessRound = newRound(GuessMatcher.of(word));
     this.roundStartedAt = now;
     this.roundEndsAt = now.plusSeconds(secondsPerRound);
   }
 
+  // 다음 라운드에 그릴 플레이어 id. 마지막 라운드면 예외
+  public long nextDrawer() {
+    if (isLastRound()) {
+      throw new IllegalStateException("no next drawer after the last round");
+    }
+    return drawerOrder[currentOrderIndex + 1];
+  }
+
+  // 순서가 다 돌았거나 정한 라운드 수를 채웠으면 마지막 라운드다
+  public boolean isLastRound() {
+    int nextIndex = currentOrderIndex + 1;
+    return nextIndex >= drawerOrder.length || nextIndex >= totalRounds;
+  }
+
+  public GuessMatcher getGuessMatcher() {
+    return guessRound.getMatcher();
+  }
+
+  public long getRoundGeneration() {
+    return guessRound.getGeneration();
+  }
+
+  public boolean isRoundGeneration(long generation) {
+    return guessRound.getGeneration() == generation;
+  }
 
   public void markCompleted() {
     this.status = GameStatus.COMPLETED;
+    this.guessRound = newRound(GuessMatcher.none());
     this.roundStartedAt = null;
     this.roundEndsAt = null;
   }
@@ -63,8 +107,12 @@ public class GameSession {
   public void resetToIdle() {
     this.status = GameStatus.IDLE;
     this.currentRound = 0;
+    this.guessRound = newRound(GuessMatcher.none());
     this.roundStartedAt = null;
     this.roundEndsAt = null;
   }
 
+  private GuessRound newRound(GuessMatcher matcher) {
+    return new GuessRound(GENERATIONS.incrementAndGet(), currentRound, matcher);
+  }
 }
@@ -0,0 +1,217 @@
+package com.catchmind_be.game.entity;
+
+import com.catchmind_be.common.utils.TextFolding;
+
+/**
+ * 라운드마다 한 번 만들어 두는 정답 비교기.
+ * 정답은 NFKC 정규화 후 공백을 빼고 소문자로 접어 둔다. NFKC 는 호환 자음을 초성으로, 호환 모음을 중성으로
+ * 바꾼 뒤 조합하므로 받침 없는 음절은 "ㅅㅏㄱㅘ" 처럼 쳐도 "사과"로 본다. 다만 호환 자음이 종성으로 바뀌지는
+ * 않아서 받침은 조합되지 않는다. "ㄱㅏㅇㅇㅏㅈㅣ" 는 "강아지"와 다르게 본다.
+ * 채팅 대부분은 ASCII 와 완성형 한글뿐이라 그 경우엔 할당 없이 길이와 해시만 보고 거른다.
+ *
+ * 아깝게 틀린 답("close!")은 정답을 자모로 풀어 둔 뒤 Myers 비트 병렬 편집 거리로 잰다.
+ * 정답 자모가 64개 이하면 한 글자당 long 연산 몇 번이고, 정답보다 많이 길어지면 바로 멈춘다.
+ */
+public final class GuessMatcher {
+
+  private static final GuessMatcher NONE = new GuessMatcher("");
+
+  private static final int MAX_HINT_DISTANCE = 2;
+
+  // 자모 기호 번호: ASCII 0~127, 초성 19개, 중성 21개, 종성 27개, 그 밖의 문자는 OTHER 하나로 묶는다
+  private static final int SYLLABLE_BASE = 0xAC00;
+  private static final int SYLLABLE_LAST = 0xD7A3;
+  private static final int LEAD_BASE = 128;
+  private static final int VOWEL_BASE = LEAD_BASE + 19;
+  private static final int TAIL_BASE = VOWEL_BASE + 21 - 1;
+  private static final int OTHER = TAIL_BASE + 28;
+  private static final int ALPHABET = OTHER + 1;
+
+  private final String answer;
+  private final int answerHash;
+  private final long[] peq;
+  private final int jamoLength;
+  private final int hintDistance;
+
+  private GuessMatcher(String answer) {
+    this.answer = answer;
+    this.answerHash = answer.hashCode();
+
+    int length = jamoLength(answer);
+    int distance = Math.min(MAX_HINT_DISTANCE, length / 3);
+    if (length == 0 || length > Long.SIZE || distance == 0) {
+      this.peq = null;
+      this.jamoLength = 0;
+      this.hintDistance = 0;
+      return;
+    }
+    this.peq = new long[ALPHABET];
+    this.jamoLength = length;
+    this.hintDistance = distance;
+    int position = 0;
+    for (int i = 0; i < answer.length(); i++) {
+      char c = answer.charAt(i);
+      int count = jamoCount(c);
+      for (int k = 0; k < count; k++) {
+        int symbol = symbol(c, k);
+        // OTHER 끼리는 같은 문자로 보지 않는다
+        if (symbol != OTHER) {
+          peq[symbol] |= 1L << position;
+        }
+        position++;
+      }
+    }
+  }
+
+  public static GuessMatcher of(String word) {
+    if (word == null) {
+      return NONE;
+    }
+    String folded = fold(word);
+    return folded.isEmpty() ? NONE : new GuessMatcher(folded);
+  }
+
+  public static GuessMatcher none() {
+    return NONE;
+  }
+
+  public boolean matches(String guess) {
+    if (answer.isEmpty() || guess == null) {
+      return false;
+    }
+    // 접은 길이와 해시가 다르면 문자열 비교 없이 바로 오답이다
+    int hash = 0;
+    int length = 0;
+    for (int i = 0; i < guess.length(); i++) {
+      char c = guess.charAt(i);
+      if (needsNormalization(c)) {
+        return answer.equals(fold(guess));
+      }
+      if (isAsciiWhitespace(c)) {
+        continue;
+      }
+      hash = 31 * hash + foldAscii(c);
+      length++;
+    }
+    if (length != answer.length() || hash != answerHash) {
+      return false;
+    }
+
+    int index = 0;
+    for (int i = 0; i < guess.length(); i++) {
+      char c = guess.charAt(i);
+      if (isAsciiWhitespace(c)) {
+        continue;
+      }
+      if (foldAscii(c) != answer.charAt(index++)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 정답은 아니지만 자모 편집 거리가 1~2 안쪽인지 본다. 짧은 정답은 허용 거리를 줄여서
+   * 두세 자모짜리 단어에 아무 말이나 가깝다고 뜨지 않게 한다.
+   */
+  public boolean isNearMiss(String guess) {
+    if (peq == null || guess == null) {
+      return false;
+    }
+    for (int i = 0; i < guess.length(); i++) {
+      if (needsNormalization(guess.charAt(i))) {
+        return isNearMissFolded(fold(guess));
+      }
+    }
+    return isNearMissFolded(guess);
+  }
+
+  private boolean isNearMissFolded(String guess) {
+    long last = 1L << (jamoLength - 1);
+    long pv = -1L;
+    long mv = 0L;
+    int score = jamoLength;
+    int consumed = 0;
+
+    for (int i = 0; i < guess.length(); i++) {
+      char c = guess.charAt(i);
+      if (isAsciiWhitespace(c)) {
+        continue;
+      }
+      c = foldAscii(c);
+      int count = jamoCount(c);
+      for (int k = 0; k < count; k++) {
+        // 거리는 적어도 (읽은 자모 수 - 정답 자모 수) 이므로 더 볼 필요가 없다
+        if (++consumed > jamoLength + hintDistance) {
+          return false;
+        }
+        long eq = peq[symbol(c, k)];
+        long xv = eq | mv;
+        long xh = (((eq & pv) + pv) ^ pv) | eq;
+        long ph = mv | ~(xh | pv);
+        long mh = pv & xh;
+        if ((ph & last) != 0) {
+          score++;
+        } else if ((mh & last) != 0) {
+          score--;
+        }
+        ph = (ph << 1) | 1L;
+        mh = mh << 1;
+        pv = mh | ~(xv | ph);
+        mv = ph & xv;
+      }
+    }
+    return score >= 1 && score <= hintDistance;
+  }
+
+  public String answer() {
+    return answer;
+  }
+
+  static String fold(String text) {
+    return TextFolding.fold(text);
+  }
+
+  private static boolean needsNormalization(char c) {
+    return TextFolding.needsNormalization(c);
+  }
+
+  private static int jamoLength(String text) {
+    int length = 0;
+    for (int i = 0; i < text.length(); i++) {
+      length += jamoCount(text.charAt(i));
+    }
+    return length;
+  }
+
+  private static int jamoCount(char c) {
+    if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+      return 1;
+    }
+    return (c - SYLLABLE_BASE) % 28 == 0 ? 2 : 3;
+  }
+
+  // 완성형 음절은 k 번째 자모(초성, 중성, 종성) 기호를, 그 밖의 문자는 문자 자체의 기호를 돌려준다
+  private static int symbol(char c, int k) {
+    if (c < 0x80) {
+      return c;
+    }
+    if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+      return OTHER;
+    }
+    int index = c - SYLLABLE_BASE;
+    return switch (k) {
+      case 0 -> LEAD_BASE + index / 588;
+      case 1 -> VOWEL_BASE + (index % 588) / 28;
+      default -> TAIL_BASE + index % 28;
+    };
+  }
+
+  private static boolean isAsciiWhitespace(char c) {
+    return c == ' ' || (c >= 0x09 && c <= 0x0D) || (c >= 0x1C && c <= 0x1F);
+  }
+
+  private static char foldAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+}
@@ -0,0 +1,47 @@
+package com.catchmind_be.game.entity;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 한 라운드의 세대 번호, 정답 비교기, 이미 맞힌 플레이어(PlayerSlotRegistry 번호 기준 비트).
+ * 라운드가 바뀌면 통째로 새로 만들어 갈아 끼우므로, 채팅 경로는 메일박스를 거치지 않고
+ * 이 객체 하나만 읽고 표시해도 이전 라운드의 표시가 새 라운드에 섞이지 않는다.
+ */
+@Getter
+public final class GuessRound {
+
+  private final long generation;
+  private final int number;
+  private final GuessMatcher matcher;
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong guessedSlots = new AtomicLong();
+
+  GuessRound(long generation, int number, GuessMatcher matcher) {
+    this.generation = generation;
+    this.number = number;
+    this.matcher = matcher;
+  }
+
+  /**
+   * 이번 라운드에서 처음 맞힌 경우에만 true 를 돌려준다. 같은 정답을 다시 보내도 점수는 한 번만 준다.
+   */
+  public boolean markGuessed(int slot) {
+    if (slot < 0 || slot >= Long.SIZE) {
+      return false;
+    }
+    long bit = 1L << slot;
+    long previous = guessedSlots.getAndUpdate(guessed -> guessed | bit);
+    return (previous & bit) == 0;
+  }
+
+  public boolean hasGuessed(int slot) {
+    return slot >= 0 && slot < Long.SIZE && (guessedSlots.get() & (1L << slot)) != 0;
+  }
+
+  // expectedSlots 에 든 플레이어가 이번 라운드에 모두 맞혔는지
+  public boolean hasAllGuessed(long expectedSlots) {
+    return expectedSlots != 0L && (guessedSlots.get() & expectedSlots) == expectedSlots;
+  }
+}
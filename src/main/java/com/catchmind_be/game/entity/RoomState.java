@@ -0,0 +1,16 @@
+package com.catchmind_be.game.entity;
+
+import com.catchmind_be.room.entity.RoomStatus;
+
+public record RoomState(
+    RoomStatus status,
+    String currentDrawerId
+) {
+  public static RoomState playing(String currentDrawerId) {
+    return new RoomState(RoomStatus.PLAYING, currentDrawerId);
+  }
+
+  public boolean isDrawer(String playerId) {
+    return status == RoomStatus.PLAYING && currentDrawerId != null && currentDrawerId.equals(playerId);
+  }
+}
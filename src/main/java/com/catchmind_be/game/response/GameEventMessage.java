@@ -1,11 +1,24 @@
 package com.catchmind_be.game.response;
 
+import com.catchmind_be.websocket.response.SequencedMessage;
+
 public record GameEventMessage(
     String type,
     int currentRound,
     int totalRound,
     String currentDrawerId,
     String word,
-    boolean gameFinished
-) {
+    boolean gameFinished,
+    long seq
+) implements SequencedMessage<GameEventMessage> {
+
+  public GameEventMessage(String type, int currentRound, int totalRound, String currentDrawerId, String word,
+      boolean gameFinished) {
+    this(type, currentRound, totalRound, currentDrawerId, word, gameFinished, 0L);
+  }
+
+  @Override
+  public GameEventMessage withSeq(long seq) {
+    return new GameEventMessage(type, currentRound, totalRound, currentDrawerId, word, gameFinished, seq);
+  }
 }
@@ -4,8 +4,38 @@ import com.catchmind_be.game.entity.GameSession;
 
 public record GuessResult(
     boolean correct,
-    GameSession gameSession
+    GameSession gameSession,
+    String playerId,
+    int score,
+    int round,
+    boolean nearMiss
 ) {
+  public GuessResult(boolean correct, GameSession gameSession) {
+    this(correct, gameSession, null, 0, 0, false);
+  }
+
+  public static GuessResult correct(GameSession gameSession, String playerId, int score, int round) {
+    return new GuessResult(
+        true,
+        gameSession,
+        playerId,
+        score,
+        round,
+        false
+    );
+  }
+
+  public static GuessResult nearMiss(GameSession gameSession, String playerId) {
+    return new GuessResult(
+        false,
+        gameSession,
+        playerId,
+        0,
+        gameSession.getCurrentRound(),
+        true
+    );
+  }
+
   public static GuessResult inCorrect() {
     return new GuessResult(
         false,
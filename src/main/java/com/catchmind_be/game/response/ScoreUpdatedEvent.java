@@ -0,0 +1,24 @@
+package com.catchmind_be.game.response;
+
+import com.catchmind_be.websocket.response.SequencedMessage;
+
+// 정답 직후 /game 으로 보내는 가벼운 이벤트. 방 전체 스냅샷 대신 바뀐 점수 하나만 싣는다
+public record ScoreUpdatedEvent(
+    String type,
+    String playerId,
+    int score,
+    int currentRound,
+    long seq
+) implements SequencedMessage<ScoreUpdatedEvent> {
+
+  public static final String TYPE = "SCORE_UPDATED";
+
+  public ScoreUpdatedEvent(String playerId, int score, int currentRound) {
+    this(TYPE, playerId, score, currentRound, 0L);
+  }
+
+  @Override
+  public ScoreUpdatedEvent withSeq(long seq) {
+    return new ScoreUpdatedEvent(type, playerId, score, currentRound, seq);
+  }
+}
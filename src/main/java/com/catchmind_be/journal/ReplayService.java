@@ -0,0 +1,211 @@
+package com.catchmind_be.journal;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+// 끝난 게임의 저널 파일을 그대로(헤더 + 레코드) 흘려보낸다. DrawMessage 로 풀지 않는다.
+// 기다리는 동안 스레드를 잡지 않도록, 때가 된 레코드만 보내고 다음 레코드 시각에 스케줄러로 다시 깨어난다.
+// 스케줄러는 그리기 flush, 라운드 타임아웃과 함께 쓰므로 때만 알려 주고, 느린 클라이언트에 막힐 수 있는 쓰기는
+// 전용 가상 스레드에서 한다
+@Service
+public class ReplayService {
+
+  private static final Pattern ROOM_CODE_PATTERN = Pattern.compile("[A-Za-z0-9]+");
+  private static final int CHUNK_RECORDS = 256;
+  // 마지막 레코드를 보낸 뒤 느린 클라이언트가 다 받아 갈 때까지의 여유
+  private static final long TIMEOUT_MARGIN_MILLIS = 30_000;
+
+  private final StrokeJournal strokeJournal;
+  private final ThreadPoolTaskScheduler taskScheduler;
+  private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+  public ReplayService(
+      StrokeJournal strokeJournal,
+      @Qualifier("threadPoolTaskScheduler") ThreadPoolTaskScheduler taskScheduler) {
+    this.strokeJournal = strokeJournal;
+    this.taskScheduler = taskScheduler;
+  }
+
+  public ResponseBodyEmitter replay(String roomCode, int gameNumber, double speed) {
+    if (!ROOM_CODE_PATTERN.matcher(roomCode).matches() || gameNumber < 1) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    Path path = strokeJournal.segmentPath(roomCode, gameNumber);
+    if (!Files.isRegularFile(path)) {
+      throw new CustomException(ErrorCode.REPLAY_NOT_FOUND);
+    }
+    if (strokeJournal.isRecording(roomCode, path)) {
+      throw new CustomException(ErrorCode.REPLAY_NOT_READY);
+    }
+    Replay replay;
+    try {
+      replay = Replay.open(path, speed);
+    } catch (IOException exception) {
+      throw new CustomException(ErrorCode.REPLAY_NOT_FOUND);
+    }
+    // 기본 async 타임아웃(30초)에 긴 게임이 잘리지 않도록 재생 길이만큼 열어 둔다
+    ResponseBodyEmitter emitter = new ResponseBodyEmitter(replay.durationMillis() + TIMEOUT_MARGIN_MILLIS);
+    start(replay, emitter);
+    return emitter;
+  }
+
+  void start(Replay replay, ResponseBodyEmitter emitter) {
+    emitter.onCompletion(replay::close);
+    emitter.onTimeout(replay::close);
+    emitter.onError(error -> replay.close());
+    sender.execute(() -> sendDue(replay, emitter));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    sender.shutdownNow();
+  }
+
+  private void sendDue(Replay replay, ResponseBodyEmitter emitter) {
+    try {
+      byte[] batch;
+      while ((batch = replay.nextDue()) != null) {
+        emitter.send(batch, MediaType.APPLICATION_OCTET_STREAM);
+      }
+      if (replay.finished()) {
+        replay.close();
+        emitter.complete();
+        return;
+      }
+      taskScheduler.schedule(() -> sender.execute(() -> sendDue(replay, emitter)), replay.nextDueAt());
+    } catch (IOException | RuntimeException exception) {
+      // 클라이언트가 끊어 이미 닫혔으면 조용히 멈춘다
+      if (!replay.isClosed()) {
+        replay.close();
+        emitter.completeWithError(exception);
+      }
+    }
+  }
+
+  // 한 재생의 읽기 위치. sendDue 가 끝나야 다음 sendDue 를 예약하므로 close 외에는 한 스레드만 만진다
+  static final class Replay {
+    private final FileChannel channel;
+    private final double speed;
+    private final long end;
+    private final long durationMillis;
+    private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_RECORDS * StrokeJournal.RECORD_SIZE).limit(0);
+    private byte[] header;
+    private long position = StrokeJournal.HEADER_SIZE;
+    private long startedAtNanos;
+    private volatile boolean closed;
+
+    private Replay(FileChannel channel, double speed, byte[] header, long end, long durationMillis) {
+      this.channel = channel;
+      this.speed = speed;
+      this.header = header;
+      this.end = end;
+      this.durationMillis = durationMillis;
+    }
+
+    static Replay open(Path path, double speed) throws IOException {
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+      try {
+        ByteBuffer header = ByteBuffer.allocate(StrokeJournal.HEADER_SIZE);
+        readFully(channel, header, 0);
+        int count = header.getInt(4);
+        long end = StrokeJournal.HEADER_SIZE + (long) count * StrokeJournal.RECORD_SIZE;
+        long durationMillis = 0;
+        if (speed > 0 && count > 0) {
+          ByteBuffer last = ByteBuffer.allocate(Integer.BYTES);
+          readFully(channel, last, end - StrokeJournal.RECORD_SIZE);
+          durationMillis = (long) (last.getInt(0) / speed);
+        }
+        return new Replay(channel, speed, header.array(), end, durationMillis);
+      } catch (IOException | RuntimeException exception) {
+        channel.close();
+        throw exception;
+      }
+    }
+
+    long durationMillis() {
+      return durationMillis;
+    }
+
+    // 지금 보낼 수 있는 바이트(헤더, 또는 시각이 된 레코드 묶음). 아직 때가 된 게 없으면 null
+    byte[] nextDue() throws IOException {
+      if (header != null) {
+        byte[] first = header;
+        header = null;
+        startedAtNanos = System.nanoTime();
+        return first;
+      }
+      if (!chunk.hasRemaining()) {
+        if (position >= end) {
+          return null;
+        }
+        chunk.clear().limit((int) Math.min(chunk.capacity(), end - position));
+        readFully(channel, chunk, position);
+        position += chunk.limit();
+      }
+      int batchEnd = chunk.limit();
+      if (speed > 0) {
+        // 이미 시간이 된 레코드는 한 번에 보낸다
+        long nowMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        batchEnd = chunk.position();
+        while (batchEnd < chunk.limit() && chunk.getInt(batchEnd) / speed <= nowMillis) {
+          batchEnd += StrokeJournal.RECORD_SIZE;
+        }
+        if (batchEnd == chunk.position()) {
+          return null;
+        }
+      }
+      byte[] batch = new byte[batchEnd - chunk.position()];
+      chunk.get(batch);
+      return batch;
+    }
+
+    boolean finished() {
+      return !chunk.hasRemaining() && position >= end;
+    }
+
+    Instant nextDueAt() {
+      long dueMillis = (long) (chunk.getInt(chunk.position()) / speed);
+      long nowMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+      return Instant.now().plusMillis(Math.max(0, dueMillis - nowMillis));
+    }
+
+    boolean isClosed() {
+      return closed;
+    }
+
+    void close() {
+      closed = true;
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+        // 읽기 전용 채널이라 닫다가 잃을 것이 없다
+      }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+      int start = buffer.position();
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position() - start) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.catchmind_be.journal;
+
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.codec.StrokeCodec;
+import com.catchmind_be.websocket.response.DrawMessage;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임마다 {dir}/{roomCode}/game-{n}.strokes 파일 하나에 획을 이어 쓴다.
+ *
+ * <pre>
+ * header (16 bytes) : magic(int) recordCount(int) startedAtEpochMillis(long)
+ * record (20 bytes) : elapsedMillis(int) + StrokeCodec 16바이트 레코드
+ * </pre>
+ *
+ * 쓰기는 메모리 맵 위에서 위치만 원자적으로 예약하고 절대 offset 으로 기록하므로 락이 없다.
+ * recordCount 는 게임이 끝나 세그먼트를 닫을 때 채우고, 파일도 그 길이로 잘라낸다.
+ * 방마다 최근 retain-games 개만 남기고, retention-hours 가 지난 세그먼트는 지운다.
+ */
+@Slf4j
+@Component
+public class StrokeJournal {
+
+  public static final int MAGIC = 0x434D4A31; // "CMJ1"
+  public static final int HEADER_SIZE = 16;
+  public static final int RECORD_SIZE = Integer.BYTES + StrokeCodec.RECORD_SIZE;
+  public static final String SEGMENT_PREFIX = "game-";
+  public static final String SEGMENT_SUFFIX = ".strokes";
+
+  private final PlayerSlotRegistry playerSlotRegistry;
+  private final Path directory;
+  private final int segmentBytes;
+  private final int retainGames;
+  private final Duration retention;
+  private final Map<String, Segment> activeSegments = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+  public StrokeJournal(
+      PlayerSlotRegistry playerSlotRegistry,
+      @Value("${catchmind.journal.dir:${java.io.tmpdir}/catchmind-journal}") Path directory,
+      @Value("${catchmind.journal.segment-bytes:8388608}") int segmentBytes,
+      @Value("${catchmind.journal.retain-games:20}") int retainGames,
+      @Value("${catchmind.journal.retention-hours:24}") long retentionHours) {
+    this.playerSlotRegistry = playerSlotRegistry;
+    this.directory = directory;
+    this.segmentBytes = segmentBytes;
+    this.retainGames = Math.max(1, retainGames);
+    this.retention = Duration.ofHours(retentionHours);
+  }
+
+  StrokeJournal(PlayerSlotRegistry playerSlotRegistry, Path directory, int segmentBytes) {
+    this(playerSlotRegistry, directory, segmentBytes, 20, 24);
+  }
+
+  public Path segmentPath(String roomCode, int gameNumber) {
+    return directory.resolve(roomCode).resolve(SEGMENT_PREFIX + gameNumber + SEGMENT_SUFFIX);
+  }
+
+  // 새 게임 세그먼트를 연다. 실패해도 게임 진행에는 영향을 주지 않는다
+  public void open(String roomCode) {
+    roll(roomCode);
+    try {
+      Path roomDirectory = Files.createDirectories(directory.resolve(roomCode));
+      List<Path> segments = listSegments(roomDirectory);
+      int gameNumber = segments.isEmpty() ? 1 : gameNumberOf(segments.get(segments.size() - 1)) + 1;
+      activeSegments.put(roomCode, createSegment(roomCode, gameNumber));
+      // 새 세그먼트까지 retainGames 개가 되도록 오래된 것부터 지운다
+      for (int i = 0; i < segments.size() - (retainGames - 1); i++) {
+        Files.deleteIfExists(segments.get(i));
+      }
+    } catch (IOException exception) {
+      log.warn("Failed to open stroke journal for room {}", roomCode, exception);
+    }
+    sweepIfNeeded();
+  }
+
+  public boolean isRecording(String roomCode, Path path) {
+    Segment segment = activeSegments.get(roomCode);
+    return segment != null && segment.path.equals(path);
+  }
+
+  public void append(String roomCode, DrawMessage message) {
+    Segment segment = activeSegments.get(roomCode);
+    if (segment != null) {
+      segment.append(message, playerSlotRegistry.slotOf(message.playerId()));
+    }
+  }
+
+  public void roll(String roomCode) {
+    Segment segment = activeSegments.remove(roomCode);
+    if (segment == null) {
+      return;
+    }
+    try {
+      segment.close();
+    } catch (IOException exception) {
+      log.warn("Failed to close stroke journal for room {}", roomCode, exception);
+    }
+  }
+
+  @PreDestroy
+  void closeAll() {
+    activeSegments.keySet().forEach(this::roll);
+  }
+
+  // 번호는 남아 있는 파일 중 가장 큰 번호 다음. 파일이 먼저 생겨 있으면 다음 번호로 넘어간다
+  private Segment createSegment(String roomCode, int gameNumber) throws IOException {
+    while (true) {
+      try {
+        return Segment.create(segmentPath(roomCode, gameNumber), segmentBytes);
+      } catch (FileAlreadyExistsException exception) {
+        gameNumber++;
+      }
+    }
+  }
+
+  // 게임 번호 오름차순
+  private List<Path> listSegments(Path roomDirectory) throws IOException {
+    try (Stream<Path> files = Files.list(roomDirectory)) {
+      return files.filter(path -> gameNumberOf(path) > 0)
+          .sorted(Comparator.comparingInt(StrokeJournal::gameNumberOf))
+          .toList();
+    }
+  }
+
+  private static int gameNumberOf(Path path) {
+    String name = path.getFileName().toString();
+    if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  // 없어진 방의 세그먼트는 open 이 다시 불리지 않으니, 한 시간에 한 번 전체를 훑어 보관 기간이 지난 것을 지운다
+  private void sweepIfNeeded() {
+    long now = System.nanoTime();
+    long last = lastSweepNanos.get();
+    if (now - last < TimeUnit.HOURS.toNanos(1) || !lastSweepNanos.compareAndSet(last, now)) {
+      return;
+    }
+    sweep();
+  }
+
+  void sweep() {
+    FileTime cutoff = FileTime.fromMillis(System.currentTimeMillis() - retention.toMillis());
+    try (Stream<Path> roomDirectories = Files.list(directory)) {
+      for (Path roomDirectory : roomDirectories.filter(Files::isDirectory).toList()) {
+        for (Path segment : listSegments(roomDirectory)) {
+          String roomCode = roomDirectory.getFileName().toString();
+          if (!isRecording(roomCode, segment) && Files.getLastModifiedTime(segment).compareTo(cutoff) < 0) {
+            Files.deleteIfExists(segment);
+          }
+        }
+        try (Stream<Path> left = Files.list(roomDirectory)) {
+          if (left.findAny().isEmpty()) {
+            Files.deleteIfExists(roomDirectory);
+          }
+        }
+      }
+    } catch (IOException exception) {
+      log.warn("Failed to sweep stroke journal {}", directory, exception);
+    }
+  }
+
+  private static final class Segment {
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger reserved = new AtomicInteger();
+    // 지금 쓰고 있는 writer 수. 닫히면 CLOSED 가 더해져 음수가 되므로 새 writer 는 들어오지 못한다
+    private final AtomicInteger writers = new AtomicInteger();
+    private final int capacity;
+    private final long startedAtNanos;
+
+    private Segment(Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+      this.path = path;
+      this.channel = channel;
+      this.buffer = buffer;
+      this.capacity = capacity;
+      this.startedAtNanos = System.nanoTime();
+      buffer.putInt(0, MAGIC);
+      buffer.putLong(8, System.currentTimeMillis());
+    }
+
+    private static Segment create(Path path, int segmentBytes) throws IOException {
+      FileChannel channel = FileChannel.open(path,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      int capacity = (segmentBytes - HEADER_SIZE) / RECORD_SIZE;
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+      return new Segment(path, channel, buffer, capacity);
+    }
+
+    private void append(DrawMessage message, int slot) {
+      if (writers.incrementAndGet() < 0) {
+        writers.decrementAndGet();
+        return;
+      }
+      try {
+        int index = reserved.getAndIncrement();
+        if (index >= capacity) {
+          return;
+        }
+        int offset = HEADER_SIZE + index * RECORD_SIZE;
+        buffer.putInt(offset, (int) ((System.nanoTime() - startedAtNanos) / 1_000_000));
+        StrokeCodec.encode(message, slot, buffer, offset + Integer.BYTES);
+      } finally {
+        writers.decrementAndGet();
+      }
+    }
+
+    // 새 쓰기를 막고, 이미 자리를 예약한 쓰기가 끝난 뒤에 레코드 수를 확정한다
+    private void close() throws IOException {
+      writers.addAndGet(CLOSED);
+      while (writers.get() != CLOSED) {
+        Thread.onSpinWait();
+      }
+      int count = Math.min(reserved.get(), capacity);
+      buffer.putInt(4, count);
+      buffer.force();
+      channel.truncate(HEADER_SIZE + (long) count * RECORD_SIZE);
+      channel.close();
+    }
+  }
+}
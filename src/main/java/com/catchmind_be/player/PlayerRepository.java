@@ -3,6 +3,7 @@ package com.catchmind_be.player;
 import com.catchmind_be.player.entity.Player;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,7 +16,13 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
   @Query("select count(p) from Player p where p.room.code = :roomCode")
   long countByRoom_Code(String roomCode);
 
+  // 읽고 더해서 저장하면 동시에 맞힐 때 점수가 사라지므로 DB 에서 한 번에 더한다.
+  // 더한 점수는 같은 트랜잭션에서 findScoreById 로 읽는다. 행 잠금이 커밋까지 남아 있어 다른 정답이 끼어들지 못한다
+  @Modifying(clearAutomatically = true)
+  @Query("update Player p set p.score = p.score + :delta where p.id = :playerId")
+  int addScore(@Param("playerId") Long playerId, @Param("delta") int delta);
 
-
+  @Query("select p.score from Player p where p.id = :playerId")
+  Integer findScoreById(@Param("playerId") Long playerId);
 
 }
@@ -0,0 +1,103 @@
+package com.catchmind_be.player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// 방마다 플레이어에게 0~63 사이의 작은 번호(slot)를 붙여 둔다.
+// 바이너리 획 포맷과 라운드별 비트셋이 문자열 id 대신 이 번호를 쓴다.
+@Component
+public class PlayerSlotRegistry {
+
+  public static final int MAX_SLOTS = 64;
+  public static final int NO_SLOT = -1;
+
+  private final Map<String, Integer> slotByPlayerId = new ConcurrentHashMap<>();
+  private final Map<String, String[]> playersByRoom = new ConcurrentHashMap<>();
+
+  public int assign(String roomCode, String playerId) {
+    Integer existing = slotByPlayerId.get(playerId);
+    if (existing != null) {
+      return existing;
+    }
+    String[] slots = playersByRoom.computeIfAbsent(roomCode, code -> new String[MAX_SLOTS]);
+    synchronized (slots) {
+      for (int slot = 0; slot < MAX_SLOTS; slot++) {
+        if (playerId.equals(slots[slot])) {
+          return slot;
+        }
+      }
+      for (int slot = 0; slot < MAX_SLOTS; slot++) {
+        if (slots[slot] == null) {
+          slots[slot] = playerId;
+          slotByPlayerId.put(playerId, slot);
+          return slot;
+        }
+      }
+    }
+    return NO_SLOT;
+  }
+
+  public int slotOf(String playerId) {
+    if (playerId == null) {
+      return NO_SLOT;
+    }
+    Integer slot = slotByPlayerId.get(playerId);
+    return slot == null ? NO_SLOT : slot;
+  }
+
+  public String playerIdAt(String roomCode, int slot) {
+    if (roomCode == null) {
+      return null;
+    }
+    String[] slots = playersByRoom.get(roomCode);
+    if (slots == null || slot < 0 || slot >= MAX_SLOTS) {
+      return null;
+    }
+    return slots[slot];
+  }
+
+  // 방에서 번호가 붙은 플레이어들의 비트 집합
+  public long occupiedSlots(String roomCode) {
+    String[] slots = roomCode == null ? null : playersByRoom.get(roomCode);
+    if (slots == null) {
+      return 0L;
+    }
+    long occupied = 0L;
+    synchronized (slots) {
+      for (int slot = 0; slot < MAX_SLOTS; slot++) {
+        if (slots[slot] != null) {
+          occupied |= 1L << slot;
+        }
+      }
+    }
+    return occupied;
+  }
+
+  public void release(String roomCode, String playerId) {
+    Integer slot = slotByPlayerId.remove(playerId);
+    String[] slots = playersByRoom.get(roomCode);
+    if (slot == null || slots == null) {
+      return;
+    }
+    synchronized (slots) {
+      if (playerId.equals(slots[slot])) {
+        slots[slot] = null;
+      }
+    }
+  }
+
+  public void releaseRoom(String roomCode) {
+    String[] slots = playersByRoom.remove(roomCode);
+    if (slots == null) {
+      return;
+    }
+    synchronized (slots) {
+      for (String playerId : slots) {
+        if (playerId != null) {
+          slotByPlayerId.remove(playerId);
+        }
+      }
+    }
+  }
+}
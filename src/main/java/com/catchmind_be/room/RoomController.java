@@ -4,20 +4,30 @@ import com.catchmind_be.common.exception.response.ApiResponse;
 import com.catchmind_be.game.GameService;
 import com.catchmind_be.game.response.GameEventMessage;
 import com.catchmind_be.game.response.GameState;
+import com.catchmind_be.journal.ReplayService;
+import com.catchmind_be.room.RoomSnapshotCache.VersionedSnapshot;
 import com.catchmind_be.room.entity.Room;
 import com.catchmind_be.room.request.CreateRoomRequest;
+import com.catchmind_be.room.request.DrawToleranceRequest;
 import com.catchmind_be.room.request.JoinRoomRequest;
 import com.catchmind_be.room.response.CreateRoomResponse;
 import com.catchmind_be.room.response.RoomSnapshotResponse;
 import com.catchmind_be.room.response.LeaveRoomResponse;
+import com.catchmind_be.websocket.CanvasRenderer;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController
 @AllArgsConstructor
@@ -25,6 +35,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoomController {
   private final RoomService roomService;
   private final GameService gameService;
+  private final CanvasRenderer canvasRenderer;
+  private final ReplayService replayService;
 
   @PostMapping
   public ApiResponse<CreateRoomResponse> createRoom(@RequestBody CreateRoomRequest createRoomRequest) {
@@ -33,9 +45,32 @@ public class RoomController {
     return ApiResponse.success(createRoomResponse);
   }
 
+  // 폴링용. 스냅샷 버전이 If-None-Match 와 같으면 본문 없이 304 를 돌려준다
   @GetMapping("/{roomCode}")
-  public ApiResponse<RoomSnapshotResponse> getRoom(@PathVariable String roomCode) {
-    return ApiResponse.success(roomService.getRoom(roomCode));
+  public ResponseEntity<ApiResponse<RoomSnapshotResponse>> getRoom(@PathVariable String roomCode, WebRequest request) {
+    VersionedSnapshot room = roomService.getVersionedRoom(roomCode);
+    if (request.checkNotModified(room.etag())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(room.etag())
+        .body(ApiResponse.success(room.snapshot()));
+  }
+
+  @GetMapping("/{roomCode}/canvas")
+  public ResponseEntity<byte[]> getCanvas(@PathVariable String roomCode) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.IMAGE_PNG)
+        .body(canvasRenderer.renderPng(roomCode));
+  }
+
+  // speed 배속으로 기록된 시간 간격을 재현한다. 0 이하이면 기다리지 않고 한 번에 보낸다
+  @GetMapping("/{roomCode}/games/{gameNumber}/replay")
+  public ResponseEntity<ResponseBodyEmitter> replay(@PathVariable String roomCode, @PathVariable int gameNumber,
+      @RequestParam(defaultValue = "1") double speed) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .body(replayService.replay(roomCode, gameNumber, speed));
   }
 
   @PostMapping("/{roomCode}/players")
@@ -61,6 +96,11 @@ public class RoomController {
     return ApiResponse.success(roomSnapshotResponse);
   }
 
+  @PatchMapping("/{roomCode}/draw/tolerance")
+  public ApiResponse<Double> updateDrawTolerance(@PathVariable String roomCode, @RequestBody DrawToleranceRequest drawToleranceRequest) {
+    return ApiResponse.success(roomService.updateDrawTolerance(roomCode, drawToleranceRequest.tolerance()));
+  }
+
   @DeleteMapping("/{roomCode}/players/{playerId}")
   public ApiResponse<LeaveRoomResponse> leaveRoom(@PathVariable String roomCode, @PathVariable String playerId) {
     LeaveRoomResponse leaveRoomResponse = roomService.leaveRoom(roomCode, playerId);
@@ -1,10 +1,22 @@
 package com.catchmind_be.room;
 
 import com.catchmind_be.room.entity.Room;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
   Optional<Room> findByCode(String code);
+
+  boolean existsByCode(String code);
+
+  // 방과 플레이어를 엔티티 없이 한 번에 읽는다. 플레이어는 들어온 순서
+  @Query("select new com.catchmind_be.room.RoomSnapshotRow("
+      + "r.code, r.hostPlayerId, r.status, p.id, p.nickname, p.isHost, p.score) "
+      + "from Room r left join r.players p "
+      + "where r.code = :code "
+      + "order by p.joinedAt asc, p.id asc")
+  List<RoomSnapshotRow> findSnapshotRows(@Param("code") String code);
 }
@@ -4,21 +4,27 @@ import com.catchmind_be.common.exception.CustomException;
 import com.catchmind_be.common.exception.code.ErrorCode;
 import com.catchmind_be.common.utils.RoomCodeGenerator;
 import com.catchmind_be.game.GameService;
-import com.catchmind_be.game.GameSessionRepository;
-import com.catchmind_be.game.entity.GameSession;
+import com.catchmind_be.game.RoomCommandExecutor;
 import com.catchmind_be.game.response.GameEventMessage;
 import com.catchmind_be.player.PlayerRepository;
+import com.catchmind_be.player.PlayerSlotRegistry;
 import com.catchmind_be.player.entity.Player;
-import com.catchmind_be.player.response.PlayerResponse;
+import com.catchmind_be.room.RoomSnapshotCache.VersionedSnapshot;
 import com.catchmind_be.room.entity.Room;
 import com.catchmind_be.room.response.RoomSnapshotResponse;
 import com.catchmind_be.room.response.LeaveRoomResponse;
+import com.catchmind_be.websocket.RoomEventLog;
+import com.catchmind_be.websocket.chat.ChatFilter;
+import com.catchmind_be.websocket.StrokeSimplifier;
 import java.security.SecureRandom;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
@@ -27,61 +33,74 @@ public class RoomService {
 
   private static final String HOST_FALLBACK_PREFIX = "Host";
   private static final String PLAYER_FALLBACK_PREFIX = "Player";
-  private static final int ROOM_CODE_LENGTH = 6;
   private static final int RANDOM_SUFFIX_RANGE = 9000;
+  private static final int ROOM_CODE_ATTEMPTS = 5;
 
-  private final GameSessionRepository gameSessionRepository;
   private final RoomRepository roomRepository;
   private final PlayerRepository playerRepository;
+  private final PlayerSlotRegistry playerSlotRegistry;
   private final RoomCodeGenerator roomCodeGenerator;
   private final SimpMessagingTemplate messagingTemplate;
   private final GameService gameService;
+  private final StrokeSimplifier strokeSimplifier;
+  private final RoomEventLog roomEventLog;
+  private final ChatFilter chatFilter;
+  private final RoomCommandExecutor roomCommandExecutor;
+  private final RoomSnapshotAssembler roomSnapshotAssembler;
+  private final TransactionTemplate transactionTemplate;
   private final SecureRandom random = new SecureRandom();
 
-  @Transactional
+  // 코드가 겹치는지 미리 조회하지 않고, 유니크 제약에 걸리면 트랜잭션째 새 코드로 다시 시도한다.
+  // 바깥 트랜잭션 안에서 불려도 한 번의 충돌로 바깥이 rollback-only 가 되지 않게 시도마다 새 트랜잭션을 연다
   public Room createRoom(String nickname) {
     String normalizedNickname = normalizeNickname(nickname, HOST_FALLBACK_PREFIX);
+    TransactionTemplate newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    for (int attempt = 1; ; attempt++) {
+      String code = roomCodeGenerator.nextCode();
+      try {
+        return newTransaction.execute(status -> insertRoom(code, normalizedNickname));
+      } catch (DataIntegrityViolationException exception) {
+        // 제약 이름은 DB 마다 달라서, 방금 쓴 코드가 이미 있는지로 코드 충돌만 가려낸다. 닉네임 길이 등은 그대로 던진다
+        if (!roomRepository.existsByCode(code)) {
+          throw exception;
+        }
+        if (attempt >= ROOM_CODE_ATTEMPTS) {
+          throw new CustomException(ErrorCode.DUPLICATE_RESOURCE);
+        }
+      }
+    }
+  }
+
+  private Room insertRoom(String code, String nickname) {
     Room room = Room.builder()
-        .code(generateUniqueRoomCode())
+        .code(code)
         .build();
     Player hostPlayer = Player.builder()
-        .nickname(normalizedNickname)
+        .nickname(nickname)
         .isHost(true)
         .build();
     room.addPlayer(hostPlayer);
 
     Room savedRoom = roomRepository.saveAndFlush(room);
     savedRoom.setHostPlayerId(String.valueOf(hostPlayer.getId()));
+    playerSlotRegistry.assign(savedRoom.getCode(), savedRoom.getHostPlayerId());
 
     return savedRoom;
   }
 
 
-  @Transactional(readOnly = true)
   public RoomSnapshotResponse getRoom(String code) {
-    Room room = roomRepository.findByCode(code).orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
-    return buildRoomSnapShotResponse(room);
+    return getVersionedRoom(code).snapshot();
   }
 
-  public RoomSnapshotResponse buildRoomSnapShotResponse(Room room) {
-    List<PlayerResponse> players = playerRepository.findPlayersByRoomCodeOrdered(room.getCode())
-        .stream()
-        .map(PlayerResponse::from).toList();
-
-    GameSession gameSession = gameSessionRepository.getOrCreate(room);
-
-    return new RoomSnapshotResponse(
-        room.getCode(),
-        room.getHostPlayerId(),
-        players,
-        room.getStatus().name(),
-        gameSession.getTotalRounds(),
-        gameSession.getCurrentRound()
-    );
+  // 캐시에 있으면 DB 를 보지 않으므로 트랜잭션을 열지 않는다
+  public VersionedSnapshot getVersionedRoom(String code) {
+    VersionedSnapshot cached = roomSnapshotAssembler.cached(code);
+    // 조회 시점의 마지막 seq 를 실어 클라이언트가 이후 이벤트부터 이어 받을 수 있게 한다
+    return cached.withSnapshot(cached.snapshot().withSeq(roomEventLog.lastSeq(code)));
   }
 
-
-
   @Transactional
   public RoomSnapshotResponse joinRoom(String roomCode, String nickname) {
     Room room = roomRepository.findByCode(roomCode).orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
@@ -93,8 +112,10 @@ public class RoomService {
 
     room.addPlayer(newPlayer);
     playerRepository.saveAndFlush(newPlayer);
+    playerSlotRegistry.assign(roomCode, String.valueOf(newPlayer.getId()));
+    roomSnapshotAssembler.invalidate(roomCode);
 
-    return buildRoomSnapShotResponse(room);
+    return roomSnapshotAssembler.assemble(roomCode);
   }
 
 
@@ -108,6 +129,7 @@ public class RoomService {
     boolean wasHost = player.isHost();
 
     room.getPlayers().remove(player); //orphan 덕분에 바로 삭제
+    playerSlotRegistry.release(roomCode, String.valueOf(playerIdAsLong));
 
     long remaining = playerRepository.countByRoom_Code(roomCode);
 
@@ -115,6 +137,12 @@ public class RoomService {
       Long roomId = room.getId();
       gameService.endGame(roomId);
       roomRepository.delete(room);
+      playerSlotRegistry.releaseRoom(roomCode);
+      strokeSimplifier.clear(roomCode);
+      roomEventLog.clear(roomCode);
+      chatFilter.clear(roomCode);
+      roomCommandExecutor.remove(roomId);
+      roomSnapshotAssembler.evict(roomCode);
       return new LeaveRoomResponse(
           roomCode,
           true,
@@ -127,6 +155,7 @@ public class RoomService {
     if(wasHost){
       newHostId = assignNewHost(room);
     }
+    roomSnapshotAssembler.invalidate(roomCode);
 
     return new LeaveRoomResponse(
         roomCode,
@@ -136,12 +165,14 @@ public class RoomService {
     );
   }
 
-  private String generateUniqueRoomCode() {
-    String code;
-    do {
-      code = roomCodeGenerator.generateCode(ROOM_CODE_LENGTH);
-    } while (roomRepository.findByCode(code).isPresent());
-    return code;
+  @Transactional(readOnly = true)
+  public double updateDrawTolerance(String roomCode, double tolerance) {
+    if (tolerance < 0 || Double.isNaN(tolerance)) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+    roomRepository.findByCode(roomCode).orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+    strokeSimplifier.setTolerance(roomCode, tolerance);
+    return tolerance;
   }
 
   private String assignNewHost(Room room){
@@ -185,8 +216,9 @@ public class RoomService {
   }
 
   public void broadcastState(RoomSnapshotResponse roomSnapshotResponse) {
-    messagingTemplate.convertAndSend("/topic/rooms/" + roomSnapshotResponse.roomCode() + "/state",
-        roomSnapshotResponse);
+    String destination = "/topic/rooms/" + roomSnapshotResponse.roomCode() + "/state";
+    roomEventLog.publish(roomSnapshotResponse.roomCode(), destination, roomSnapshotResponse,
+        stamped -> messagingTemplate.convertAndSend(destination, stamped));
   }
 
 
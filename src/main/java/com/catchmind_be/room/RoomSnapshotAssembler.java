@@ -0,0 +1,66 @@
+package com.catchmind_be.room;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import com.catchmind_be.game.GameSessionRepository;
+import com.catchmind_be.game.entity.GameSession;
+import com.catchmind_be.player.response.PlayerResponse;
+import com.catchmind_be.room.RoomSnapshotCache.VersionedSnapshot;
+import com.catchmind_be.room.response.RoomSnapshotResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 방 스냅샷은 어디서 만들든 여기서 만든다. 쿼리는 findSnapshotRows 한 번이고 라운드 정보는 메모리에서 읽는다.
+// 방을 바꾼 쪽은 invalidate 를 불러 캐시를 비운다
+@Component
+@AllArgsConstructor
+public class RoomSnapshotAssembler {
+
+  private final RoomRepository roomRepository;
+  private final GameSessionRepository gameSessionRepository;
+  private final RoomSnapshotCache roomSnapshotCache;
+
+  // 조회용. 캐시에 있으면 DB 를 건드리지 않는다
+  public VersionedSnapshot cached(String roomCode) {
+    return roomSnapshotCache.get(roomCode, this::assemble);
+  }
+
+  public void invalidate(String roomCode) {
+    roomSnapshotCache.invalidate(roomCode);
+  }
+
+  public void evict(String roomCode) {
+    roomSnapshotCache.evict(roomCode);
+  }
+
+  // 방금 바꾼 내용을 돌려줘야 하는 쓰기 경로용. 항상 DB 에서 새로 만든다
+  public RoomSnapshotResponse assemble(String roomCode) {
+    List<RoomSnapshotRow> rows = roomRepository.findSnapshotRows(roomCode);
+    if (rows.isEmpty()) {
+      throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+    }
+
+    List<PlayerResponse> players = new ArrayList<>(rows.size());
+    for (RoomSnapshotRow row : rows) {
+      if (row.playerId() != null) {
+        players.add(new PlayerResponse(row.playerId(), row.nickname(),
+            Boolean.TRUE.equals(row.isHost()), row.score() == null ? 0 : row.score()));
+      }
+    }
+
+    RoomSnapshotRow room = rows.getFirst();
+    // 게임을 한 번도 안 한 방은 세션이 없으므로 0 라운드로 보낸다
+    Optional<GameSession> gameSession = gameSessionRepository.findByRoomCode(roomCode);
+    return new RoomSnapshotResponse(
+        room.roomCode(),
+        room.hostPlayerId(),
+        List.copyOf(players),
+        room.status().name(),
+        gameSession.map(GameSession::getTotalRounds).orElse(0),
+        gameSession.map(GameSession::getCurrentRound).orElse(0)
+    );
+  }
+}
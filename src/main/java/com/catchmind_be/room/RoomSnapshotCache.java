@@ -0,0 +1,156 @@
+package com.catchmind_be.room;
+
+import com.catchmind_be.room.response.RoomSnapshotResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 방 코드별 스냅샷 캐시. 방이 바뀌는 곳에서 invalidate 를 부르면 버전이 올라가고 스냅샷은 비워져
+ * 다음 조회 때 DB 에서 다시 만든다. 트랜잭션 안에서 부르면 커밋이 끝난 뒤에 비우므로
+ * 커밋 전 데이터로 다시 채워지는 일이 없다.
+ *
+ * 버전은 전역 카운터에서 뽑아 방이 쫓겨났다 다시 들어와도 예전 값으로 돌아가지 않는다.
+ * 크기는 max-size 로 막고, idle-seconds 동안 조회되지 않은 방은 다음 정리 때 뺀다.
+ */
+@Component
+public class RoomSnapshotCache {
+
+  private static final AtomicLong VERSIONS = new AtomicLong();
+  // 재시작하면 버전이 다시 1 부터 시작하므로 ETag 에 기동 시각을 붙여 이전 실행의 값과 구분한다
+  private static final String EPOCH = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+  private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+  private final int maxSize;
+  private final long idleNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicLong lastSweepNanos;
+
+  public RoomSnapshotCache(
+      @Value("${catchmind.room.snapshot-cache.max-size:10000}") int maxSize,
+      @Value("${catchmind.room.snapshot-cache.idle-seconds:300}") long idleSeconds) {
+    this(maxSize, Duration.ofSeconds(idleSeconds), System::nanoTime);
+  }
+
+  RoomSnapshotCache(int maxSize, Duration idle, LongSupplier nanoClock) {
+    this.maxSize = Math.max(maxSize, 1);
+    this.idleNanos = idle.toNanos();
+    this.nanoClock = nanoClock;
+    this.lastSweepNanos = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  /**
+   * 캐시된 스냅샷을 돌려주고, 없으면 loader 로 만들어 채운다. loader 가 던진 예외는 그대로 나가고 아무것도 남기지 않는다.
+   */
+  public VersionedSnapshot get(String roomCode, Function<String, RoomSnapshotResponse> loader) {
+    long now = nanoClock.getAsLong();
+    Slot slot = slots.computeIfAbsent(roomCode, code -> new Slot());
+    slot.lastAccessNanos = now;
+
+    VersionedSnapshot current = slot.current.get();
+    if (current.snapshot() != null) {
+      return current;
+    }
+
+    RoomSnapshotResponse loaded;
+    try {
+      loaded = loader.apply(roomCode);
+    } catch (RuntimeException exception) {
+      // 없는 방 코드로 캐시가 차지 않게 한다
+      slots.remove(roomCode, slot);
+      throw exception;
+    }
+    VersionedSnapshot filled = new VersionedSnapshot(current.version(), loaded);
+    // 읽는 사이 invalidate 됐으면 지금 읽은 값은 이미 낡았을 수 있으니 채우지 않는다
+    slot.current.compareAndSet(current, filled);
+    sweepIfNeeded(now);
+    return filled;
+  }
+
+  public void invalidate(String roomCode) {
+    afterCommit(() -> {
+      Slot slot = slots.get(roomCode);
+      if (slot != null) {
+        slot.current.set(VersionedSnapshot.empty());
+      }
+    });
+  }
+
+  public void evict(String roomCode) {
+    afterCommit(() -> slots.remove(roomCode));
+  }
+
+  int size() {
+    return slots.size();
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  // 한 스레드만 정리한다. 오래 안 본 방을 먼저 빼고, 그래도 넘치면 가장 오래전에 본 방부터 뺀다
+  private void sweepIfNeeded(long now) {
+    long lastSweep = lastSweepNanos.get();
+    boolean overCapacity = slots.size() > maxSize;
+    if (!overCapacity && now - lastSweep < idleNanos) {
+      return;
+    }
+    if (!lastSweepNanos.compareAndSet(lastSweep, now)) {
+      return;
+    }
+    slots.entrySet().removeIf(entry -> now - entry.getValue().lastAccessNanos >= idleNanos);
+
+    int excess = slots.size() - maxSize;
+    if (excess <= 0) {
+      return;
+    }
+    List<Map.Entry<String, Slot>> entries = new ArrayList<>(slots.entrySet());
+    entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos));
+    for (int i = 0; i < excess && i < entries.size(); i++) {
+      slots.remove(entries.get(i).getKey(), entries.get(i).getValue());
+    }
+  }
+
+  public record VersionedSnapshot(long version, RoomSnapshotResponse snapshot) {
+
+    public VersionedSnapshot withSnapshot(RoomSnapshotResponse snapshot) {
+      return new VersionedSnapshot(version, snapshot);
+    }
+
+    // 버전이 같으면 방 상태도 같다. 본문의 seq 는 조회 때마다 달라질 수 있어 약한 ETag 로 둔다
+    public String etag() {
+      return "W/\"" + EPOCH + "-" + version + "\"";
+    }
+
+    private static VersionedSnapshot empty() {
+      return new VersionedSnapshot(VERSIONS.incrementAndGet(), null);
+    }
+  }
+
+  private static final class Slot {
+
+    private final AtomicReference<VersionedSnapshot> current =
+        new AtomicReference<>(VersionedSnapshot.empty());
+    private volatile long lastAccessNanos;
+  }
+}
@@ -0,0 +1,15 @@
+package com.catchmind_be.room;
+
+import com.catchmind_be.room.entity.RoomStatus;
+
+// 스냅샷 조회 한 줄. 방에 플레이어가 없으면 player 쪽 값이 모두 null 인 한 줄이 온다
+public record RoomSnapshotRow(
+    String roomCode,
+    String hostPlayerId,
+    RoomStatus status,
+    Long playerId,
+    String nickname,
+    Boolean isHost,
+    Integer score
+) {
+}
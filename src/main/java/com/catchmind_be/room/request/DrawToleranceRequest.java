@@ -0,0 +1,5 @@
+package com.catchmind_be.room.request;
+
+public record DrawToleranceRequest(double tolerance) {
+
+}
@@ -1,6 +1,7 @@
 package com.catchmind_be.room.response;
 
 import com.catchmind_be.player.response.PlayerResponse;
+import com.catchmind_be.websocket.response.SequencedMessage;
 import java.util.List;
 
 public record RoomSnapshotResponse(
@@ -9,7 +10,17 @@ public record RoomSnapshotResponse(
     List<PlayerResponse> players,
     String status,
     int totalRounds,
-    int currentRound
-) {
-}
+    int currentRound,
+    long seq
+) implements SequencedMessage<RoomSnapshotResponse> {
+
+  public RoomSnapshotResponse(String roomCode, String hostPlayerId, List<PlayerResponse> players, String status,
+      int totalRounds, int currentRound) {
+    this(roomCode, hostPlayerId, players, status, totalRounds, currentRound, 0L);
+  }
 
+  @Override
+  public RoomSnapshotResponse withSeq(long seq) {
+    return new RoomSnapshotResponse(roomCode, hostPlayerId, players, status, totalRounds, currentRound, seq);
+  }
+}
@@ -0,0 +1,70 @@
+package com.catchmind_be.websocket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+// 방마다 /draw/binary 구독 수를 센다. 구독자가 없는 방에는 바이너리 프레임을 보내지 않기 위해 쓴다
+@Component
+public class BinaryDrawSubscriptions {
+
+  private static final Pattern DESTINATION = Pattern.compile("/topic/rooms/([^/]+)/draw/binary");
+
+  private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+  // sessionId -> (subscriptionId -> roomCode). UNSUBSCRIBE 와 DISCONNECT 에는 destination 이 없어서 기억해 둔다
+  private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+  public boolean hasSubscribers(String roomCode) {
+    return counts.containsKey(roomCode);
+  }
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+    Matcher matcher = DESTINATION.matcher(destination);
+    if (!matcher.matches()) {
+      return;
+    }
+    String roomCode = matcher.group(1);
+    String previous = sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+        .putIfAbsent(accessor.getSubscriptionId(), roomCode);
+    if (previous == null) {
+      counts.merge(roomCode, 1, Integer::sum);
+    }
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    Map<String, String> subscriptions = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+    if (subscriptions != null && accessor.getSubscriptionId() != null) {
+      String roomCode = subscriptions.remove(accessor.getSubscriptionId());
+      if (roomCode != null) {
+        release(roomCode);
+      }
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+    if (subscriptions != null) {
+      subscriptions.values().forEach(this::release);
+    }
+  }
+
+  private void release(String roomCode) {
+    counts.computeIfPresent(roomCode, (code, count) -> count > 1 ? count - 1 : null);
+  }
+}
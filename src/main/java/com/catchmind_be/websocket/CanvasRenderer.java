@@ -0,0 +1,212 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import com.catchmind_be.room.RoomRepository;
+import com.catchmind_be.websocket.response.DrawMessage;
+import jakarta.annotation.PreDestroy;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 방마다 캔버스를 서버에서 직접 그려 두고, 들어오는 사람에게는 PNG 한 장으로 넘겨준다.
+// 방마다 밀린 획 큐를 두고 쌓인 게 있을 때만 가상 스레드 하나가 한꺼번에 그리므로 방끼리는 서로 막지 않는다.
+// 큐가 max-pending 을 넘으면 따라잡을 때까지 새 획은 버린다. 인코딩한 PNG 는 다음 획이 그려질 때까지 재사용한다.
+@Slf4j
+@Component
+public class CanvasRenderer {
+
+  private final RoomRepository roomRepository;
+  private final int width;
+  private final int height;
+  private final int maxPending;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<String, RoomCanvas> canvases = new ConcurrentHashMap<>();
+  private volatile byte[] blankPng;
+
+  public CanvasRenderer(
+      RoomRepository roomRepository,
+      @Value("${catchmind.canvas.width:800}") int width,
+      @Value("${catchmind.canvas.height:600}") int height,
+      @Value("${catchmind.canvas.max-pending:4096}") int maxPending) {
+    this.roomRepository = roomRepository;
+    this.width = width;
+    this.height = height;
+    this.maxPending = maxPending;
+  }
+
+  public void draw(String roomCode, DrawMessage message) {
+    canvases.computeIfAbsent(roomCode, code -> new RoomCanvas()).offer(roomCode, message);
+  }
+
+  public void clear(String roomCode) {
+    RoomCanvas canvas = canvases.remove(roomCode);
+    if (canvas != null) {
+      canvas.dispose();
+    }
+  }
+
+  public byte[] renderPng(String roomCode) {
+    try {
+      RoomCanvas canvas = canvases.get(roomCode);
+      if (canvas != null) {
+        byte[] png = canvas.png();
+        if (png != null) {
+          return png;
+        }
+      }
+      // 아직 획이 없는 방은 빈 캔버스. 없는 방까지 빈 그림을 주지 않도록 여기서 확인한다
+      if (!roomRepository.existsByCode(roomCode)) {
+        throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+      }
+      return blankPng();
+    } catch (IOException exception) {
+      log.error("Failed to render canvas for room {}", roomCode, exception);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private byte[] blankPng() throws IOException {
+    byte[] png = blankPng;
+    if (png == null) {
+      Canvas canvas = new Canvas(width, height);
+      try {
+        png = canvas.encodePng();
+      } finally {
+        canvas.dispose();
+      }
+      blankPng = png;
+    }
+    return png;
+  }
+
+  private final class RoomCanvas {
+    private final Queue<DrawMessage> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 아래 필드는 this 잠금 안에서만 다룬다
+    private Canvas canvas;
+    private byte[] png;
+    private boolean disposed;
+
+    private void offer(String roomCode, DrawMessage message) {
+      if (pendingCount.incrementAndGet() > maxPending) {
+        pendingCount.decrementAndGet();
+        log.debug("Canvas for room {} is behind, dropping stroke", roomCode);
+        return;
+      }
+      pending.add(message);
+      if (draining.compareAndSet(false, true)) {
+        executor.execute(() -> drain(roomCode));
+      }
+    }
+
+    private void drain(String roomCode) {
+      do {
+        try {
+          drawPending();
+        } catch (RuntimeException exception) {
+          log.warn("Failed to rasterize stroke for room {}", roomCode, exception);
+        }
+        draining.set(false);
+        // 내려놓는 사이에 들어온 획이 있으면 다시 잡아서 그린다
+      } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    // 밀린 획을 한 번에 그린다. 하나라도 그리면 캐시한 PNG 는 버린다
+    private synchronized void drawPending() {
+      DrawMessage message;
+      while ((message = pending.poll()) != null) {
+        pendingCount.decrementAndGet();
+        if (disposed) {
+          continue;
+        }
+        if (canvas == null) {
+          canvas = new Canvas(width, height);
+        }
+        canvas.draw(message);
+        png = null;
+      }
+    }
+
+    // 요청 시점까지 들어온 획을 반영한 PNG. 그린 게 없으면 null
+    private synchronized byte[] png() throws IOException {
+      drawPending();
+      if (canvas == null) {
+        return null;
+      }
+      if (png == null) {
+        png = canvas.encodePng();
+      }
+      return png;
+    }
+
+    private synchronized void dispose() {
+      disposed = true;
+      if (canvas != null) {
+        canvas.dispose();
+        canvas = null;
+      }
+      png = null;
+    }
+  }
+
+  private static final class Canvas {
+    private final BufferedImage image;
+    private final Graphics2D graphics;
+
+    private Canvas(int width, int height) {
+      this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+      this.graphics = image.createGraphics();
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    private void draw(DrawMessage message) {
+      graphics.setColor(parseColor(message.color()));
+      graphics.setStroke(new BasicStroke((float) message.lineWidth(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+      graphics.draw(new Line2D.Double(message.fromX(), message.fromY(), message.toX(), message.toY()));
+    }
+
+    private byte[] encodePng() throws IOException {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      ImageIO.write(image, "png", outputStream);
+      return outputStream.toByteArray();
+    }
+
+    private void dispose() {
+      graphics.dispose();
+    }
+
+    private static Color parseColor(String color) {
+      try {
+        return color == null ? Color.BLACK : Color.decode(color);
+      } catch (NumberFormatException exception) {
+        return Color.BLACK;
+      }
+    }
+  }
+}
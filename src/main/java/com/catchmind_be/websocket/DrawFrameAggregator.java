@@ -0,0 +1,152 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.websocket.codec.BinaryDrawMessageConverter;
+import com.catchmind_be.websocket.response.DrawFrame;
+import com.catchmind_be.websocket.response.DrawMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+// 방마다 획을 모아 두었다가 일정 주기(또는 개수 초과 시)에 한 프레임으로 내보낸다.
+// flush 는 라운드 타임아웃 등과 스케줄러를 나눠 쓰지 않도록 전용 스레드에서 돈다
+@Component
+public class DrawFrameAggregator {
+
+  private final SimpMessagingTemplate template;
+  private final StrokeSimplifier strokeSimplifier;
+  private final RoomEventLog roomEventLog;
+  private final BinaryDrawSubscriptions binaryDrawSubscriptions;
+  private final ThreadPoolTaskScheduler flushScheduler = new ThreadPoolTaskScheduler();
+  private final Duration flushInterval;
+  private final int maxBatchSize;
+  private final Map<String, RoomBuffer> buffers = new ConcurrentHashMap<>();
+  private ScheduledFuture<?> flushTask;
+
+  public DrawFrameAggregator(
+      SimpMessagingTemplate template,
+      StrokeSimplifier strokeSimplifier,
+      RoomEventLog roomEventLog,
+      BinaryDrawSubscriptions binaryDrawSubscriptions,
+      @Value("${catchmind.draw.flush-interval-ms:20}") long flushIntervalMillis,
+      @Value("${catchmind.draw.max-batch-size:64}") int maxBatchSize) {
+    this.template = template;
+    this.strokeSimplifier = strokeSimplifier;
+    this.roomEventLog = roomEventLog;
+    this.binaryDrawSubscriptions = binaryDrawSubscriptions;
+    this.flushInterval = Duration.ofMillis(flushIntervalMillis);
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @PostConstruct
+  void start() {
+    flushScheduler.setThreadNamePrefix("draw-flush-");
+    flushScheduler.initialize();
+    flushTask = flushScheduler.scheduleAtFixedRate(this::flushAll, flushInterval);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+    }
+    flushScheduler.shutdown();
+    flushAll();
+  }
+
+  public void offer(String roomCode, DrawMessage message) {
+    while (true) {
+      RoomBuffer buffer = buffers.computeIfAbsent(roomCode, code -> new RoomBuffer());
+      boolean full;
+      synchronized (buffer) {
+        if (buffer.closed) {
+          continue;
+        }
+        buffer.add(message, strokeSimplifier, strokeSimplifier.toleranceOf(roomCode));
+        full = buffer.strokes.size() >= maxBatchSize;
+      }
+      if (full) {
+        // 그사이 주기 flush 가 먼저 비웠으면 보낼 것이 없다
+        flush(roomCode, buffer);
+      }
+      return;
+    }
+  }
+
+  void flushAll() {
+    buffers.forEach((roomCode, buffer) -> {
+      synchronized (buffer) {
+        if (buffer.strokes.isEmpty()) {
+          // 한 주기 동안 획이 없던 방은 정리한다
+          buffer.closed = true;
+          buffers.remove(roomCode, buffer);
+          return;
+        }
+      }
+      flush(roomCode, buffer);
+    });
+  }
+
+  // 비우기와 보내기를 방마다 하나뿐인 sendLock 안에서 함께 한다. 먼저 비운 묶음이 먼저 나가야
+  // 순번과 그 안의 획 순서가 어긋나지 않는다. 획을 더하는 쪽은 buffer 잠금만 잡으므로 보내는 동안 막히지 않는다
+  private void flush(String roomCode, RoomBuffer buffer) {
+    synchronized (buffer.sendLock) {
+      List<DrawMessage> strokes;
+      synchronized (buffer) {
+        if (buffer.strokes.isEmpty()) {
+          return;
+        }
+        strokes = buffer.drain();
+      }
+      send(roomCode, strokes);
+    }
+  }
+
+  private void send(String roomCode, List<DrawMessage> strokes) {
+    String destination = "/topic/rooms/" + roomCode + "/draw";
+    roomEventLog.publish(roomCode, destination, new DrawFrame(strokes), frame -> {
+      template.convertAndSend(destination, frame);
+      // 바이너리로 받겠다고 구독한 클라이언트가 없으면 인코딩하지 않는다
+      if (binaryDrawSubscriptions.hasSubscribers(roomCode)) {
+        template.convertAndSend("/topic/rooms/" + roomCode + "/draw/binary", frame,
+            BinaryDrawMessageConverter.binaryHeaders());
+      }
+    });
+  }
+
+  private static final class RoomBuffer {
+    private List<DrawMessage> strokes = new ArrayList<>();
+    private final StrokeSimplifier.Run run = new StrokeSimplifier.Run();
+    private final Object sendLock = new Object();
+    private boolean closed;
+
+    // 프레임에 아직 남아 있는 마지막 획과 합칠 수 있으면 합쳐서 내보낼 메시지 수를 줄인다
+    private void add(DrawMessage message, StrokeSimplifier strokeSimplifier, double tolerance) {
+      int lastIndex = strokes.size() - 1;
+      if (lastIndex >= 0) {
+        DrawMessage merged = strokeSimplifier.merge(strokes.get(lastIndex), message, run, tolerance);
+        if (merged != null) {
+          strokes.set(lastIndex, merged);
+          return;
+        }
+      }
+      strokes.add(message);
+      run.reset();
+    }
+
+    private List<DrawMessage> drain() {
+      List<DrawMessage> drained = strokes;
+      strokes = new ArrayList<>(drained.size());
+      run.reset();
+      return drained;
+    }
+  }
+}
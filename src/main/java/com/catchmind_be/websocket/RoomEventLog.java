@@ -0,0 +1,97 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.websocket.response.ResyncEvent;
+import com.catchmind_be.websocket.response.ResyncResponse;
+import com.catchmind_be.websocket.response.SequencedMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 방마다 draw / game / state 로 나가는 메시지에 순번을 붙이고, 최근 메시지를 고정 크기 버퍼에 남겨 재동기화에 쓴다
+@Component
+public class RoomEventLog {
+
+  private final int capacity;
+  private final Map<String, RoomLog> logs = new ConcurrentHashMap<>();
+
+  public RoomEventLog(@Value("${catchmind.events.resync-capacity:256}") int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * 순번을 붙여 기록하고, 같은 잠금 안에서 send 로 내보낸다. 잠금을 놓은 뒤에 보내면 순번이 뒤바뀐 채 브로커에 닿을 수 있다.
+   */
+  public <T extends SequencedMessage<T>> T publish(String roomCode, String destination, T message, Consumer<T> send) {
+    RoomLog log = logs.computeIfAbsent(roomCode, code -> new RoomLog(capacity));
+    synchronized (log) {
+      T stamped = message.withSeq(log.lastSeq + 1);
+      log.append(stamped.seq(), destination, stamped);
+      send.accept(stamped);
+      return stamped;
+    }
+  }
+
+  public long lastSeq(String roomCode) {
+    RoomLog log = logs.get(roomCode);
+    if (log == null) {
+      return 0;
+    }
+    synchronized (log) {
+      return log.lastSeq;
+    }
+  }
+
+  public ResyncResponse resync(String roomCode, long afterSeq) {
+    RoomLog log = logs.get(roomCode);
+    if (log == null) {
+      return new ResyncResponse(roomCode, 0, afterSeq == 0, List.of());
+    }
+    synchronized (log) {
+      return log.since(roomCode, afterSeq);
+    }
+  }
+
+  public void clear(String roomCode) {
+    logs.remove(roomCode);
+  }
+
+  private static final class RoomLog {
+    private final long[] seqs;
+    private final String[] destinations;
+    private final Object[] payloads;
+    private long lastSeq;
+    private int size;
+
+    private RoomLog(int capacity) {
+      this.seqs = new long[capacity];
+      this.destinations = new String[capacity];
+      this.payloads = new Object[capacity];
+    }
+
+    private void append(long seq, String destination, Object payload) {
+      int index = (int) (seq % seqs.length);
+      seqs[index] = seq;
+      destinations[index] = destination;
+      payloads[index] = payload;
+      lastSeq = seq;
+      size = Math.min(size + 1, seqs.length);
+    }
+
+    private ResyncResponse since(String roomCode, long afterSeq) {
+      long oldestSeq = lastSeq - size + 1;
+      if (afterSeq > lastSeq || afterSeq + 1 < oldestSeq) {
+        return new ResyncResponse(roomCode, lastSeq, false, List.of());
+      }
+      List<ResyncEvent> events = new ArrayList<>((int) (lastSeq - afterSeq));
+      for (long seq = afterSeq + 1; seq <= lastSeq; seq++) {
+        int index = (int) (seq % seqs.length);
+        events.add(new ResyncEvent(seqs[index], destinations[index], payloads[index]));
+      }
+      return new ResyncResponse(roomCode, lastSeq, true, events);
+    }
+  }
+}
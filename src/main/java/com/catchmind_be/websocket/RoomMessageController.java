@@ -3,16 +3,23 @@ package com.catchmind_be.websocket;
 import com.catchmind_be.common.utils.WordGenerator;
 import com.catchmind_be.game.GameService;
 import com.catchmind_be.game.entity.GameSession;
-import com.catchmind_be.game.response.FinishedInfo;
 import com.catchmind_be.game.response.GameEventMessage;
 import com.catchmind_be.game.response.GuessResult;
-import com.catchmind_be.room.RoomService;
-import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.journal.StrokeJournal;
+import com.catchmind_be.websocket.chat.ChatFilter;
+import com.catchmind_be.websocket.codec.StrokeCodec;
+import com.catchmind_be.websocket.request.ResyncRequest;
 import com.catchmind_be.websocket.response.ChatMessage;
+import com.catchmind_be.websocket.response.DrawFrame;
 import com.catchmind_be.websocket.response.DrawMessage;
+import com.catchmind_be.websocket.response.GuessHintMessage;
+import com.catchmind_be.websocket.response.ResyncResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,19 +29,30 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoomMessageController {
 
   private final GameService gameService;
-  private final RoomService roomService;
   private final SimpMessagingTemplate template;
+  private final DrawFrameAggregator drawFrameAggregator;
+  private final StrokeHistory strokeHistory;
+  private final CanvasRenderer canvasRenderer;
+  private final RoomEventLog roomEventLog;
+  private final StrokeJournal strokeJournal;
+  private final ChatFilter chatFilter;
 
+  // 아깝게 틀린 경우에만 보낸 사람에게 힌트를 돌려주고, 나머지는 null 이라 아무것도 가지 않는다
   @MessageMapping("/rooms/{roomCode}/chat")
-  public void sendMessage(@PathVariable String roomCode, ChatMessage message) {
-    this.template.convertAndSend("/topic/rooms/" + roomCode + "/chat", message);
+  @SendToUser(destinations = "/queue/rooms/hint", broadcast = false)
+  public GuessHintMessage sendMessage(@PathVariable String roomCode, ChatMessage message) {
+    ChatMessage filtered = chatFilter.filter(roomCode, message,
+        gameService.drawerAnswer(roomCode, message.playerId()));
+    this.template.convertAndSend("/topic/rooms/" + roomCode + "/chat", filtered);
     GuessResult guessResult = gameService.guessWord(
         roomCode, message.playerId(), message.message()
     );
+    // 전체 스냅샷은 입장/퇴장 때만 보내고, 정답은 바뀐 점수만 알린다
     if (guessResult.correct()) {
-      RoomSnapshotResponse snapshot = roomService.getRoom(roomCode);
-      roomService.broadcastState(snapshot);
+      gameService.broadcastScoreUpdated(roomCode, guessResult);
+      return null;
     }
+    return guessResult.nearMiss() ? GuessHintMessage.close(roomCode) : null;
   }
 
   @MessageMapping("/rooms/{roomCode}/draw")
@@ -42,7 +60,35 @@ public class RoomMessageController {
     if(!gameService.canDraw(roomCode, message)){
       return;
     }
-    this.template.convertAndSend("/topic/rooms/" + roomCode + "/draw", message);
+    // 기록에 남길 수 없는 색은 받지 않고, 나머지는 기록과 같은 모양으로 바꿔 모든 경로에 같은 색이 가게 한다
+    String color = StrokeCodec.normalizeColor(message.color());
+    if (color == null) {
+      return;
+    }
+    DrawMessage stroke = color.equals(message.color()) ? message : new DrawMessage(message.playerId(),
+        message.fromX(), message.fromY(), message.toX(), message.toY(), color, message.lineWidth());
+    strokeHistory.append(roomCode, stroke);
+    canvasRenderer.draw(roomCode, stroke);
+    strokeJournal.append(roomCode, stroke);
+    drawFrameAggregator.offer(roomCode, stroke);
+  }
+
+  // 중간에 들어오거나 재접속한 플레이어가 구독하면 현재 라운드 획을 한 번에 받는다
+  @SubscribeMapping("/rooms/{roomCode}/draw/history")
+  public DrawFrame drawHistory(@DestinationVariable String roomCode) {
+    return strokeHistory.replay(roomCode);
+  }
+
+  @SubscribeMapping("/rooms/{roomCode}/draw/history/binary")
+  public byte[] drawHistoryBinary(@DestinationVariable String roomCode) {
+    return strokeHistory.snapshot(roomCode);
+  }
+
+  // 순번이 빠진 것을 발견한 클라이언트에게 버퍼에 남아 있는 구간만 다시 보내준다
+  @MessageMapping("/rooms/{roomCode}/resync")
+  @SendToUser(destinations = "/queue/rooms/resync", broadcast = false)
+  public ResyncResponse resync(@DestinationVariable String roomCode, ResyncRequest request) {
+    return roomEventLog.resync(roomCode, request.afterSeq());
   }
 
 }
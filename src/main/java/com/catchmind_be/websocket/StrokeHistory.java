@@ -0,0 +1,93 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.codec.StrokeCodec;
+import com.catchmind_be.websocket.response.DrawFrame;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 현재 라운드의 획을 방마다 고정 크기 링버퍼(16바이트 레코드)에 남겨 늦게 들어온 플레이어에게 보내준다
+@Component
+public class StrokeHistory {
+
+  private final PlayerSlotRegistry playerSlotRegistry;
+  private final int capacity;
+  private final Map<String, StrokeLog> logs = new ConcurrentHashMap<>();
+
+  public StrokeHistory(
+      PlayerSlotRegistry playerSlotRegistry,
+      @Value("${catchmind.draw.history-capacity:4096}") int capacity) {
+    this.playerSlotRegistry = playerSlotRegistry;
+    this.capacity = capacity;
+  }
+
+  public void append(String roomCode, DrawMessage message) {
+    StrokeLog log = logs.computeIfAbsent(roomCode, code -> new StrokeLog(capacity));
+    int slot = playerSlotRegistry.slotOf(message.playerId());
+    synchronized (log) {
+      log.append(message, slot);
+    }
+  }
+
+  // 오래된 획부터 레코드를 이어 붙인 바이트 배열
+  public byte[] snapshot(String roomCode) {
+    StrokeLog log = logs.get(roomCode);
+    if (log == null) {
+      return new byte[0];
+    }
+    synchronized (log) {
+      return log.copy();
+    }
+  }
+
+  public DrawFrame replay(String roomCode) {
+    byte[] records = snapshot(roomCode);
+    ByteBuffer buffer = ByteBuffer.wrap(records);
+    List<DrawMessage> strokes = new ArrayList<>(records.length / StrokeCodec.RECORD_SIZE);
+    for (int offset = 0; offset < records.length; offset += StrokeCodec.RECORD_SIZE) {
+      String playerId = playerSlotRegistry.playerIdAt(roomCode, StrokeCodec.readSlot(buffer, offset));
+      strokes.add(StrokeCodec.decode(buffer, offset, playerId));
+    }
+    return new DrawFrame(strokes);
+  }
+
+  public void clear(String roomCode) {
+    logs.remove(roomCode);
+  }
+
+  private static final class StrokeLog {
+    private final ByteBuffer records;
+    private final int capacity;
+    private int head;
+    private int size;
+
+    private StrokeLog(int capacity) {
+      this.capacity = capacity;
+      this.records = ByteBuffer.allocate(capacity * StrokeCodec.RECORD_SIZE);
+    }
+
+    private void append(DrawMessage message, int slot) {
+      records.position(head * StrokeCodec.RECORD_SIZE);
+      StrokeCodec.encode(message, slot, records);
+      head = (head + 1) % capacity;
+      size = Math.min(size + 1, capacity);
+    }
+
+    private byte[] copy() {
+      byte[] target = new byte[size * StrokeCodec.RECORD_SIZE];
+      int oldest = (head - size + capacity) % capacity;
+      int firstPart = Math.min(size, capacity - oldest);
+      System.arraycopy(records.array(), oldest * StrokeCodec.RECORD_SIZE,
+          target, 0, firstPart * StrokeCodec.RECORD_SIZE);
+      System.arraycopy(records.array(), 0,
+          target, firstPart * StrokeCodec.RECORD_SIZE, (size - firstPart) * StrokeCodec.RECORD_SIZE);
+      return target;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이어지는 획이 거의 일직선이면 하나로 합친다. 허용 오차(px)는 방마다 다르게 줄 수 있고 0이면 끈다
+@Component
+public class StrokeSimplifier {
+
+  private static final double CONTIGUOUS_EPSILON = 1e-6;
+
+  private final double defaultTolerance;
+  private final Map<String, Double> tolerances = new ConcurrentHashMap<>();
+
+  public StrokeSimplifier(@Value("${catchmind.draw.simplify-tolerance:0}") double defaultTolerance) {
+    this.defaultTolerance = defaultTolerance;
+  }
+
+  public void setTolerance(String roomCode, double tolerance) {
+    tolerances.put(roomCode, tolerance);
+  }
+
+  public double toleranceOf(String roomCode) {
+    return tolerances.getOrDefault(roomCode, defaultTolerance);
+  }
+
+  public void clear(String roomCode) {
+    tolerances.remove(roomCode);
+  }
+
+  /**
+   * last 뒤에 next 를 이어 붙인 한 선분이 지금까지 합쳐진 모든 중간점을 tolerance 안에 두면 합친 획을,
+   * 아니면 null 을 돌려준다. 성공하면 run 에 새 중간점이 추가된다.
+   */
+  public DrawMessage merge(DrawMessage last, DrawMessage next, Run run, double tolerance) {
+    if (tolerance <= 0 || run.isFull()) {
+      return null;
+    }
+    if (!Objects.equals(last.playerId(), next.playerId())
+        || !Objects.equals(last.color(), next.color())
+        || last.lineWidth() != next.lineWidth()) {
+      return null;
+    }
+    if (Math.abs(last.toX() - next.fromX()) > CONTIGUOUS_EPSILON
+        || Math.abs(last.toY() - next.fromY()) > CONTIGUOUS_EPSILON) {
+      return null;
+    }
+
+    double ax = last.fromX();
+    double ay = last.fromY();
+    double bx = next.toX();
+    double by = next.toY();
+    double squaredTolerance = tolerance * tolerance;
+    if (squaredDistance(last.toX(), last.toY(), ax, ay, bx, by) > squaredTolerance) {
+      return null;
+    }
+    for (int i = 0; i < run.count; i++) {
+      if (squaredDistance(run.xs[i], run.ys[i], ax, ay, bx, by) > squaredTolerance) {
+        return null;
+      }
+    }
+
+    run.add(last.toX(), last.toY());
+    return new DrawMessage(last.playerId(), ax, ay, bx, by, last.color(), last.lineWidth());
+  }
+
+  // 점 p 와 선분 ab 사이 거리의 제곱
+  private static double squaredDistance(double px, double py, double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+    t = Math.max(0, Math.min(1, t));
+    double cx = ax + t * dx - px;
+    double cy = ay + t * dy - py;
+    return cx * cx + cy * cy;
+  }
+
+  // 마지막 획에 합쳐진 중간점들. 버퍼마다 하나씩 두고 재사용한다
+  public static final class Run {
+    private static final int MAX_POINTS = 32;
+
+    private final double[] xs = new double[MAX_POINTS];
+    private final double[] ys = new double[MAX_POINTS];
+    private int count;
+
+    private boolean isFull() {
+      return count == MAX_POINTS;
+    }
+
+    private void add(double x, double y) {
+      xs[count] = x;
+      ys[count] = y;
+      count++;
+    }
+
+    public void reset() {
+      count = 0;
+    }
+  }
+}
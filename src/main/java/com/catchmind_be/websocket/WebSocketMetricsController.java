@@ -0,0 +1,26 @@
+package com.catchmind_be.websocket;
+
+import com.catchmind_be.common.exception.response.ApiResponse;
+import com.catchmind_be.websocket.ratelimit.InboundRateLimitInterceptor;
+import com.catchmind_be.websocket.response.RateLimitMetricsResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/ws/metrics")
+public class WebSocketMetricsController {
+
+  private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
+
+  @GetMapping("/rate-limit")
+  public ApiResponse<RateLimitMetricsResponse> getRateLimitMetrics() {
+    return ApiResponse.success(new RateLimitMetricsResponse(
+        inboundRateLimitInterceptor.drawDropCount(),
+        inboundRateLimitInterceptor.chatDropCount(),
+        inboundRateLimitInterceptor.trackedSessionCount()
+    ));
+  }
+}
@@ -0,0 +1,191 @@
+package com.catchmind_be.websocket.chat;
+
+import com.catchmind_be.common.utils.TextFolding;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 여러 개를 한 번에 찾는 Aho-Corasick 오토마톤.
+ * 정답 비교와 같은 TextFolding 기준(NFKC, 소문자, 공백 제거)으로 접어서 보므로
+ * "사 과", "BAD", 전각 "ＢＡＤ", 호환 자모 "ㅂㅏㅂㅗ" 같은 변형도 잡힌다.
+ * 메시지 길이에 비례하는 한 번의 순회로 끝나고, 걸린 게 없으면 원래 문자열을 그대로 돌려준다.
+ */
+final class AhoCorasick {
+
+  private static final int ROOT = 0;
+
+  // 노드마다 정렬된 다음 글자와 이동할 노드
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] failure;
+  // 이 노드에서 끝나는 가장 긴 패턴 길이 (실패 링크를 따라간 것 포함), 없으면 0
+  private final int[] matchLength;
+
+  private AhoCorasick(char[][] labels, int[][] targets, int[] failure, int[] matchLength) {
+    this.labels = labels;
+    this.targets = targets;
+    this.failure = failure;
+    this.matchLength = matchLength;
+  }
+
+  static AhoCorasick build(Collection<String> patterns) {
+    List<TreeMap<Character, Integer>> children = new ArrayList<>();
+    List<Integer> ownLength = new ArrayList<>();
+    children.add(new TreeMap<>());
+    ownLength.add(0);
+
+    for (String pattern : patterns) {
+      if (pattern == null) {
+        continue;
+      }
+      String folded = TextFolding.fold(pattern);
+      int node = ROOT;
+      int length = 0;
+      for (int i = 0; i < folded.length(); i++) {
+        char c = folded.charAt(i);
+        Integer next = children.get(node).get(c);
+        if (next == null) {
+          next = children.size();
+          children.add(new TreeMap<>());
+          ownLength.add(0);
+          children.get(node).put(c, next);
+        }
+        node = next;
+        length++;
+      }
+      if (length > 0) {
+        ownLength.set(node, Math.max(ownLength.get(node), length));
+      }
+    }
+
+    int size = children.size();
+    char[][] labels = new char[size][];
+    int[][] targets = new int[size][];
+    for (int node = 0; node < size; node++) {
+      TreeMap<Character, Integer> edges = children.get(node);
+      labels[node] = new char[edges.size()];
+      targets[node] = new int[edges.size()];
+      int index = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        labels[node][index] = edge.getKey();
+        targets[node][index] = edge.getValue();
+        index++;
+      }
+    }
+
+    int[] failure = new int[size];
+    int[] matchLength = new int[size];
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    for (int child : targets[ROOT]) {
+      failure[child] = ROOT;
+      matchLength[child] = ownLength.get(child);
+      queue.add(child);
+    }
+    AhoCorasick automaton = new AhoCorasick(labels, targets, failure, matchLength);
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int i = 0; i < labels[node].length; i++) {
+        char c = labels[node][i];
+        int child = targets[node][i];
+        int fallback = failure[node];
+        while (fallback != ROOT && automaton.next(fallback, c) < 0) {
+          fallback = failure[fallback];
+        }
+        int candidate = automaton.next(fallback, c);
+        failure[child] = candidate < 0 || candidate == child ? ROOT : candidate;
+        matchLength[child] = Math.max(ownLength.get(child), matchLength[failure[child]]);
+        queue.add(child);
+      }
+    }
+    return automaton;
+  }
+
+  boolean isEmpty() {
+    return labels[ROOT].length == 0;
+  }
+
+  /**
+   * 찾은 패턴 글자를 mask 로 바꾼 문자열을 돌려준다. 건너뛴 공백은 그대로 둔다.
+   */
+  String mask(String text, char mask) {
+    if (text == null || isEmpty()) {
+      return text;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (TextFolding.needsNormalization(text.charAt(i))) {
+        return maskFolded(text, mask);
+      }
+    }
+    // ASCII 와 완성형 한글뿐이면 접은 글자와 원문 글자가 하나씩 대응하므로 그대로 훑는다
+    char[] masked = null;
+    int state = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (TextFolding.isFoldedAway(c)) {
+        continue;
+      }
+      state = step(state, foldAscii(c));
+
+      int length = matchLength[state];
+      if (length > 0) {
+        if (masked == null) {
+          masked = text.toCharArray();
+        }
+        // 공백을 빼고 length 글자만큼 뒤로 가며 가린다
+        for (int j = i; j >= 0 && length > 0; j--) {
+          if (!TextFolding.isFoldedAway(masked[j])) {
+            masked[j] = mask;
+            length--;
+          }
+        }
+      }
+    }
+    return masked == null ? text : new String(masked);
+  }
+
+  // 정규화가 필요한 글자가 섞인 경우. 접은 글자마다 원문 구간을 들고 있다가 그 구간을 가린다
+  private String maskFolded(String text, char mask) {
+    TextFolding.Folded folded = TextFolding.foldWithOrigins(text);
+    char[] masked = null;
+    int state = ROOT;
+    for (int i = 0; i < folded.length(); i++) {
+      state = step(state, folded.charAt(i));
+
+      int length = matchLength[state];
+      if (length > 0) {
+        if (masked == null) {
+          masked = text.toCharArray();
+        }
+        for (int j = folded.start(i - length + 1); j < folded.end(i); j++) {
+          if (!TextFolding.isFoldedAway(masked[j])) {
+            masked[j] = mask;
+          }
+        }
+      }
+    }
+    return masked == null ? text : new String(masked);
+  }
+
+  private int step(int state, char c) {
+    int next = next(state, c);
+    while (next < 0 && state != ROOT) {
+      state = failure[state];
+      next = next(state, c);
+    }
+    return next < 0 ? ROOT : next;
+  }
+
+  private int next(int node, char c) {
+    int index = Arrays.binarySearch(labels[node], c);
+    return index < 0 ? -1 : targets[node][index];
+  }
+
+  private static char foldAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+}
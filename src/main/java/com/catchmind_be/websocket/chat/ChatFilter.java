@@ -0,0 +1,65 @@
+package com.catchmind_be.websocket.chat;
+
+import com.catchmind_be.websocket.response.ChatMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 채팅을 방에 뿌리기 전에 금칙어를 가린다. 그리는 사람이 보낸 채팅은 이번 라운드 정답도 함께 가린다
+@Component
+public class ChatFilter {
+
+  private static final char MASK = '*';
+
+  private final List<String> bannedWords;
+  private final AhoCorasick bannedAutomaton;
+  // 정답이 바뀔 때(라운드마다)만 다시 만든다
+  private final Map<String, RoundAutomaton> roundAutomata = new ConcurrentHashMap<>();
+
+  public ChatFilter(@Value("${catchmind.chat.banned-words:}") String[] bannedWords) {
+    this.bannedWords = Arrays.stream(bannedWords)
+        .filter(word -> word != null && !word.isBlank())
+        .toList();
+    this.bannedAutomaton = AhoCorasick.build(this.bannedWords);
+  }
+
+  /**
+   * drawerAnswer 는 보낸 사람이 지금 그리는 사람일 때만 정답을, 아니면 null 을 넘긴다.
+   */
+  public ChatMessage filter(String roomCode, ChatMessage message, String drawerAnswer) {
+    if (message == null || message.message() == null) {
+      return message;
+    }
+    AhoCorasick automaton = drawerAnswer == null || drawerAnswer.isBlank()
+        ? bannedAutomaton
+        : roundAutomaton(roomCode, drawerAnswer);
+    String masked = automaton.mask(message.message(), MASK);
+    if (masked == message.message()) {
+      return message;
+    }
+    return new ChatMessage(message.playerId(), message.nickname(), masked);
+  }
+
+  public void clear(String roomCode) {
+    roundAutomata.remove(roomCode);
+  }
+
+  private AhoCorasick roundAutomaton(String roomCode, String answer) {
+    RoundAutomaton cached = roundAutomata.get(roomCode);
+    if (cached != null && cached.answer().equals(answer)) {
+      return cached.automaton();
+    }
+    List<String> patterns = new ArrayList<>(bannedWords);
+    patterns.add(answer);
+    AhoCorasick automaton = AhoCorasick.build(patterns);
+    roundAutomata.put(roomCode, new RoundAutomaton(answer, automaton));
+    return automaton;
+  }
+
+  private record RoundAutomaton(String answer, AhoCorasick automaton) {
+  }
+}
@@ -0,0 +1,105 @@
+package com.catchmind_be.websocket.codec;
+
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.response.DrawFrame;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+// content-type 이 application/vnd.catchmind.stroke 인 프레임만 처리하고 나머지는 JSON 컨버터에 맡긴다.
+@Component
+public class BinaryDrawMessageConverter extends AbstractMessageConverter {
+
+  public static final MimeType STROKE_MIME_TYPE = new MimeType("application", "vnd.catchmind.stroke");
+
+  private static final String ROOMS_SEGMENT = "/rooms/";
+  private static final int FRAME_HEADER_SIZE = Long.BYTES;
+
+  private final PlayerSlotRegistry playerSlotRegistry;
+
+  public BinaryDrawMessageConverter(PlayerSlotRegistry playerSlotRegistry) {
+    super(STROKE_MIME_TYPE);
+    this.playerSlotRegistry = playerSlotRegistry;
+    setStrictContentTypeMatch(true);
+  }
+
+  public static MessageHeaders binaryHeaders() {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(STROKE_MIME_TYPE);
+    accessor.setLeaveMutable(true);
+    return accessor.getMessageHeaders();
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return DrawMessage.class == clazz || DrawFrame.class == clazz;
+  }
+
+  @Override
+  protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+    if (!(message.getPayload() instanceof byte[] payload)) {
+      return null;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(payload);
+    String roomCode = roomCodeOf(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+    if (DrawFrame.class == targetClass) {
+      if (payload.length < FRAME_HEADER_SIZE) {
+        return null;
+      }
+      int strokeCount = (payload.length - FRAME_HEADER_SIZE) / StrokeCodec.RECORD_SIZE;
+      List<DrawMessage> strokes = new ArrayList<>(strokeCount);
+      for (int i = 0; i < strokeCount; i++) {
+        strokes.add(decode(buffer, FRAME_HEADER_SIZE + i * StrokeCodec.RECORD_SIZE, roomCode));
+      }
+      return new DrawFrame(strokes, buffer.getLong(0));
+    }
+    if (payload.length < StrokeCodec.RECORD_SIZE) {
+      return null;
+    }
+    return decode(buffer, 0, roomCode);
+  }
+
+  // 프레임은 8바이트 seq 뒤에 획 레코드를 이어 붙인다
+  @Override
+  protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+    if (payload instanceof DrawFrame frame) {
+      byte[] bytes = new byte[FRAME_HEADER_SIZE + frame.strokes().size() * StrokeCodec.RECORD_SIZE];
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      buffer.putLong(frame.seq());
+      for (DrawMessage stroke : frame.strokes()) {
+        StrokeCodec.encode(stroke, playerSlotRegistry.slotOf(stroke.playerId()), buffer);
+      }
+      return bytes;
+    }
+    DrawMessage drawMessage = (DrawMessage) payload;
+    byte[] bytes = new byte[StrokeCodec.RECORD_SIZE];
+    StrokeCodec.encode(drawMessage, playerSlotRegistry.slotOf(drawMessage.playerId()), ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  private DrawMessage decode(ByteBuffer buffer, int offset, String roomCode) {
+    String playerId = playerSlotRegistry.playerIdAt(roomCode, StrokeCodec.readSlot(buffer, offset));
+    return StrokeCodec.decode(buffer, offset, playerId);
+  }
+
+  private String roomCodeOf(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    int start = destination.indexOf(ROOMS_SEGMENT);
+    if (start < 0) {
+      return null;
+    }
+    start += ROOMS_SEGMENT.length();
+    int end = destination.indexOf('/', start);
+    return end < 0 ? destination.substring(start) : destination.substring(start, end);
+  }
+}
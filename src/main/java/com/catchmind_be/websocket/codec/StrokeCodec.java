@@ -0,0 +1,152 @@
+package com.catchmind_be.websocket.codec;
+
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.nio.ByteBuffer;
+
+/**
+ * 획 하나를 16바이트 고정 레코드로 인코딩한다. (big-endian)
+ *
+ * <pre>
+ * 0      slot (플레이어 번호, 0xFF = 알 수 없음)
+ * 1      palette index (0xFF = 12~14 바이트의 RGB 사용)
+ * 2..9   fromX, fromY, toX, toY (signed 16bit, 1/8 px 고정소수점)
+ * 10..11 lineWidth (unsigned 16bit, 1/8 px 고정소수점)
+ * 12..14 RGB (palette 밖 색상일 때만)
+ * 15     reserved
+ * </pre>
+ */
+public final class StrokeCodec {
+
+  public static final int RECORD_SIZE = 16;
+
+  private static final int COORDINATE_SCALE = 8;
+  private static final int UNKNOWN_SLOT = 0xFF;
+  private static final int CUSTOM_COLOR = 0xFF;
+
+  private static final String[] PALETTE = {
+      "#000000", "#ffffff", "#808080", "#c0c0c0",
+      "#ff0000", "#ff7f00", "#ffff00", "#00ff00",
+      "#00ffff", "#0000ff", "#8b00ff", "#ff00ff",
+      "#a52a2a", "#ffc0cb", "#006400", "#000080"
+  };
+
+  private StrokeCodec() {
+  }
+
+  public static void encode(DrawMessage message, int slot, ByteBuffer target) {
+    int start = target.position();
+    encode(message, slot, target, start);
+    target.position(start + RECORD_SIZE);
+  }
+
+  // 버퍼 position 을 건드리지 않으므로 서로 다른 offset 이면 여러 스레드가 같은 버퍼에 써도 된다
+  public static void encode(DrawMessage message, int slot, ByteBuffer target, int start) {
+    target.put(start, (byte) (slot < 0 || slot >= UNKNOWN_SLOT ? UNKNOWN_SLOT : slot));
+    int paletteIndex = paletteIndexOf(message.color());
+    target.put(start + 1, (byte) paletteIndex);
+    target.putShort(start + 2, quantize(message.fromX()));
+    target.putShort(start + 4, quantize(message.fromY()));
+    target.putShort(start + 6, quantize(message.toX()));
+    target.putShort(start + 8, quantize(message.toY()));
+    target.putShort(start + 10, quantizeUnsigned(message.lineWidth()));
+    int rgb = paletteIndex == CUSTOM_COLOR ? parseRgb(message.color()) : 0;
+    target.put(start + 12, (byte) (rgb >>> 16));
+    target.put(start + 13, (byte) (rgb >>> 8));
+    target.put(start + 14, (byte) rgb);
+    target.put(start + 15, (byte) 0);
+  }
+
+  /**
+   * 기록(팔레트 번호 또는 RGB)으로 그대로 되살릴 수 있는 "#rrggbb" 소문자로 바꾼다. "#rgb" 는 늘려 쓰고, 색이 없으면 검정.
+   * 그 밖의 형식이면 null 이라, 실시간으로 본 색과 기록에서 다시 그린 색이 달라지지 않게 받는 쪽에서 버린다.
+   */
+  public static String normalizeColor(String color) {
+    if (color == null) {
+      return PALETTE[0];
+    }
+    String hex = color.length() == 4 && color.charAt(0) == '#'
+        ? new String(new char[]{'#', color.charAt(1), color.charAt(1), color.charAt(2), color.charAt(2),
+            color.charAt(3), color.charAt(3)})
+        : color;
+    int rgb = parseRgb(hex);
+    return rgb < 0 ? null : formatRgb(rgb);
+  }
+
+  public static int readSlot(ByteBuffer source, int offset) {
+    int slot = source.get(offset) & 0xFF;
+    return slot == UNKNOWN_SLOT ? -1 : slot;
+  }
+
+  public static DrawMessage decode(ByteBuffer source, int offset, String playerId) {
+    int paletteIndex = source.get(offset + 1) & 0xFF;
+    String color;
+    if (paletteIndex < PALETTE.length) {
+      color = PALETTE[paletteIndex];
+    } else {
+      color = formatRgb(((source.get(offset + 12) & 0xFF) << 16)
+          | ((source.get(offset + 13) & 0xFF) << 8)
+          | (source.get(offset + 14) & 0xFF));
+    }
+    return new DrawMessage(
+        playerId,
+        dequantize(source.getShort(offset + 2)),
+        dequantize(source.getShort(offset + 4)),
+        dequantize(source.getShort(offset + 6)),
+        dequantize(source.getShort(offset + 8)),
+        color,
+        (source.getShort(offset + 10) & 0xFFFF) / (double) COORDINATE_SCALE
+    );
+  }
+
+  private static int paletteIndexOf(String color) {
+    if (color == null) {
+      return 0;
+    }
+    for (int i = 0; i < PALETTE.length; i++) {
+      if (PALETTE[i].equalsIgnoreCase(color)) {
+        return i;
+      }
+    }
+    return parseRgb(color) < 0 ? 0 : CUSTOM_COLOR;
+  }
+
+  // "#rrggbb" 형식이 아니면 -1
+  private static int parseRgb(String color) {
+    if (color == null || color.length() != 7 || color.charAt(0) != '#') {
+      return -1;
+    }
+    int rgb = 0;
+    for (int i = 1; i < 7; i++) {
+      int digit = Character.digit(color.charAt(i), 16);
+      if (digit < 0) {
+        return -1;
+      }
+      rgb = (rgb << 4) | digit;
+    }
+    return rgb;
+  }
+
+  private static String formatRgb(int rgb) {
+    char[] chars = new char[7];
+    chars[0] = '#';
+    for (int i = 6; i >= 1; i--) {
+      chars[i] = Character.forDigit(rgb & 0xF, 16);
+      rgb >>>= 4;
+    }
+    return new String(chars);
+  }
+
+  private static short quantize(double value) {
+    long fixed = Math.round(value * COORDINATE_SCALE);
+    return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, fixed));
+  }
+
+  private static short quantizeUnsigned(double value) {
+    long fixed = Math.round(value * COORDINATE_SCALE);
+    return (short) Math.max(0, Math.min(0xFFFF, fixed));
+  }
+
+  private static double dequantize(short value) {
+    return value / (double) COORDINATE_SCALE;
+  }
+}
@@ -0,0 +1,220 @@
+package com.catchmind_be.websocket.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+// STOMP 세션마다 draw / chat SEND 에 토큰 버킷을 걸어 한 클라이언트가 inbound 스레드를 독차지하지 못하게 한다
+@Component
+public class InboundRateLimitInterceptor implements ChannelInterceptor {
+
+  private static final Duration COALESCE_TICK = Duration.ofMillis(50);
+
+  private final ThreadPoolTaskScheduler taskScheduler;
+  private final Limit drawLimit;
+  private final Limit chatLimit;
+  private final LongSupplier nanoTime;
+  private final Map<String, SessionLimits> sessions = new ConcurrentHashMap<>();
+  private ScheduledFuture<?> coalesceTask;
+
+  public InboundRateLimitInterceptor(
+      @Qualifier("threadPoolTaskScheduler") ThreadPoolTaskScheduler taskScheduler,
+      @Value("${catchmind.rate-limit.draw.per-second:120}") double drawPerSecond,
+      @Value("${catchmind.rate-limit.draw.burst:240}") double drawBurst,
+      @Value("${catchmind.rate-limit.draw.policy:DROP}") RateLimitPolicy drawPolicy,
+      @Value("${catchmind.rate-limit.chat.per-second:5}") double chatPerSecond,
+      @Value("${catchmind.rate-limit.chat.burst:10}") double chatBurst,
+      @Value("${catchmind.rate-limit.chat.policy:DROP}") RateLimitPolicy chatPolicy) {
+    this(taskScheduler, drawPerSecond, drawBurst, drawPolicy, chatPerSecond, chatBurst, chatPolicy, System::nanoTime);
+  }
+
+  InboundRateLimitInterceptor(
+      ThreadPoolTaskScheduler taskScheduler,
+      double drawPerSecond,
+      double drawBurst,
+      RateLimitPolicy drawPolicy,
+      double chatPerSecond,
+      double chatBurst,
+      RateLimitPolicy chatPolicy,
+      LongSupplier nanoTime) {
+    this.taskScheduler = taskScheduler;
+    this.nanoTime = nanoTime;
+    // 획은 하나라도 빠지면 선이 끊기므로 버스트만큼 순서대로 모아 두고, 채팅은 마지막 것만 남긴다
+    this.drawLimit = new Limit(drawPerSecond, drawBurst, drawPolicy, (int) Math.max(1, drawBurst));
+    this.chatLimit = new Limit(chatPerSecond, chatBurst, chatPolicy, 1);
+  }
+
+  @PostConstruct
+  void start() {
+    if (drawLimit.policy == RateLimitPolicy.COALESCE || chatLimit.policy == RateLimitPolicy.COALESCE) {
+      coalesceTask = taskScheduler.scheduleAtFixedRate(this::releaseCoalesced, COALESCE_TICK);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    if (coalesceTask != null) {
+      coalesceTask.cancel(false);
+    }
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    if (sessionId == null) {
+      return message;
+    }
+    if (messageType == SimpMessageType.DISCONNECT) {
+      sessions.remove(sessionId);
+      return message;
+    }
+    if (messageType != SimpMessageType.MESSAGE) {
+      return message;
+    }
+
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    Limit limit = limitOf(destination);
+    if (limit == null) {
+      return message;
+    }
+
+    SessionLimits sessionLimits = sessions.computeIfAbsent(sessionId, id -> new SessionLimits());
+    Bucket bucket = limit == drawLimit ? sessionLimits.draw : sessionLimits.chat;
+    if (message == bucket.releasing) {
+      // release 가 토큰을 이미 가져가고 다시 보낸 메시지
+      return message;
+    }
+    // 밀려 있는 메시지가 있으면 새 메시지가 토큰을 먼저 가져가 앞지르지 못하게 뒤에 붙인다
+    if (bucket.pending.get() == null && bucket.tokens.tryAcquire()) {
+      return message;
+    }
+
+    if (limit.policy == RateLimitPolicy.COALESCE) {
+      Pending queued = new Pending(List.of(message), channel);
+      Pending previous = bucket.pending.getAndUpdate(pending -> pending == null
+          ? queued
+          : pending.append(message, limit.maxPending));
+      // 꽉 찬 상태였다면 마지막 메시지가 이번 것으로 대체되며 버려진다
+      if (previous != null && previous.messages.size() == limit.maxPending) {
+        limit.dropped.increment();
+      }
+    } else {
+      limit.dropped.increment();
+    }
+    return null;
+  }
+
+  public long drawDropCount() {
+    return drawLimit.dropped.sum();
+  }
+
+  public long chatDropCount() {
+    return chatLimit.dropped.sum();
+  }
+
+  public int trackedSessionCount() {
+    return sessions.size();
+  }
+
+  void releaseCoalesced() {
+    sessions.values().forEach(sessionLimits -> {
+      release(sessionLimits.draw);
+      release(sessionLimits.chat);
+    });
+  }
+
+  // 스케줄러 한 스레드에서만 불리므로 버킷마다 한 번에 하나씩, 밀린 순서대로 내보낸다
+  private void release(Bucket bucket) {
+    Pending pending = bucket.pending.get();
+    while (pending != null && bucket.tokens.tryAcquire()) {
+      Message<?> head = pending.messages.get(0);
+      bucket.releasing = head;
+      try {
+        // 다시 inbound 채널로 보낸다. 보내는 동안에도 pending 에 남겨 두어 새 메시지가 앞지르지 못한다
+        pending.channel.send(head);
+      } finally {
+        bucket.releasing = null;
+      }
+      pending = bucket.pending.updateAndGet(current -> current != null && current.messages.get(0) == head
+          ? current.removeHead()
+          : current);
+    }
+  }
+
+  private Limit limitOf(String destination) {
+    if (destination == null || !destination.startsWith("/app/rooms/")) {
+      return null;
+    }
+    if (destination.endsWith("/draw")) {
+      return drawLimit;
+    }
+    if (destination.endsWith("/chat")) {
+      return chatLimit;
+    }
+    return null;
+  }
+
+  private record Pending(List<Message<?>> messages, MessageChannel channel) {
+
+    private Pending append(Message<?> message, int maxPending) {
+      List<Message<?>> appended = new ArrayList<>(messages);
+      if (appended.size() == maxPending) {
+        appended.remove(appended.size() - 1);
+      }
+      appended.add(message);
+      return new Pending(List.copyOf(appended), channel);
+    }
+
+    private Pending removeHead() {
+      return messages.size() == 1 ? null : new Pending(messages.subList(1, messages.size()), channel);
+    }
+  }
+
+  private static final class Limit {
+    private final double permitsPerSecond;
+    private final double burst;
+    private final RateLimitPolicy policy;
+    private final int maxPending;
+    private final LongAdder dropped = new LongAdder();
+
+    private Limit(double permitsPerSecond, double burst, RateLimitPolicy policy, int maxPending) {
+      this.permitsPerSecond = permitsPerSecond;
+      this.burst = burst;
+      this.policy = policy;
+      this.maxPending = maxPending;
+    }
+  }
+
+  private static final class Bucket {
+    private final TokenBucket tokens;
+    private final AtomicReference<Pending> pending = new AtomicReference<>();
+    private volatile Message<?> releasing;
+
+    private Bucket(Limit limit, LongSupplier nanoTime) {
+      this.tokens = new TokenBucket(limit.permitsPerSecond, limit.burst, nanoTime);
+    }
+  }
+
+  private final class SessionLimits {
+    private final Bucket draw = new Bucket(drawLimit, nanoTime);
+    private final Bucket chat = new Bucket(chatLimit, nanoTime);
+  }
+}
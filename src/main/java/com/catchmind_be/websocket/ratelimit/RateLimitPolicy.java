@@ -0,0 +1,8 @@
+package com.catchmind_be.websocket.ratelimit;
+
+public enum RateLimitPolicy {
+  // 한도를 넘은 메시지는 버린다
+  DROP,
+  // 한도를 넘은 메시지를 남겨 두었다가 토큰이 다시 차면 순서대로 보낸다 (그리기는 버스트만큼 모두, 채팅은 마지막 것만)
+  COALESCE
+}
@@ -0,0 +1,45 @@
+package com.catchmind_be.websocket.ratelimit;
+
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+
+  private final double capacity;
+  private final double refillPerNano;
+  private final LongSupplier nanoTime;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(double permitsPerSecond, double capacity) {
+    this(permitsPerSecond, capacity, System::nanoTime);
+  }
+
+  // 테스트가 시계를 직접 움직일 수 있게 시간 공급자를 받는다
+  TokenBucket(double permitsPerSecond, double capacity, LongSupplier nanoTime) {
+    this.capacity = capacity;
+    this.refillPerNano = permitsPerSecond / 1_000_000_000d;
+    this.nanoTime = nanoTime;
+    this.tokens = capacity;
+    this.lastRefillNanos = nanoTime.getAsLong();
+  }
+
+  public synchronized boolean tryAcquire() {
+    refill();
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    return true;
+  }
+
+  public synchronized boolean hasToken() {
+    refill();
+    return tokens >= 1;
+  }
+
+  private void refill() {
+    long now = nanoTime.getAsLong();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+    lastRefillNanos = now;
+  }
+}
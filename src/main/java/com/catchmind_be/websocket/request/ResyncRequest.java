@@ -0,0 +1,5 @@
+package com.catchmind_be.websocket.request;
+
+public record ResyncRequest(long afterSeq) {
+
+}
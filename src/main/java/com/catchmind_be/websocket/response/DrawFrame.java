@@ -0,0 +1,18 @@
+package com.catchmind_be.websocket.response;
+
+import java.util.List;
+
+public record DrawFrame(
+    List<DrawMessage> strokes,
+    long seq
+) implements SequencedMessage<DrawFrame> {
+
+  public DrawFrame(List<DrawMessage> strokes) {
+    this(strokes, 0L);
+  }
+
+  @Override
+  public DrawFrame withSeq(long seq) {
+    return new DrawFrame(strokes, seq);
+  }
+}
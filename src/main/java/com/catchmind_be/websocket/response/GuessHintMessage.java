@@ -0,0 +1,13 @@
+package com.catchmind_be.websocket.response;
+
+// 아깝게 틀린 플레이어 본인에게만 보내는 힌트
+public record GuessHintMessage(
+    String roomCode,
+    String type
+) {
+  public static final String CLOSE = "CLOSE";
+
+  public static GuessHintMessage close(String roomCode) {
+    return new GuessHintMessage(roomCode, CLOSE);
+  }
+}
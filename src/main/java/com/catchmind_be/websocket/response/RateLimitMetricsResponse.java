@@ -0,0 +1,8 @@
+package com.catchmind_be.websocket.response;
+
+public record RateLimitMetricsResponse(
+    long drawDropped,
+    long chatDropped,
+    int trackedSessions
+) {
+}
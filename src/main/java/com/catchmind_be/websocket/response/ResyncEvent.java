@@ -0,0 +1,8 @@
+package com.catchmind_be.websocket.response;
+
+public record ResyncEvent(
+    long seq,
+    String destination,
+    Object payload
+) {
+}
@@ -0,0 +1,11 @@
+package com.catchmind_be.websocket.response;
+
+import java.util.List;
+
+public record ResyncResponse(
+    String roomCode,
+    long lastSeq,
+    boolean complete,          // false 면 버퍼에서 이미 밀려난 구간이 있으니 전체 상태를 다시 받아야 한다
+    List<ResyncEvent> events
+) {
+}
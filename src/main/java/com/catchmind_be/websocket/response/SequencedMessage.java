@@ -0,0 +1,8 @@
+package com.catchmind_be.websocket.response;
+
+// 방 단위로 증가하는 순번(seq)을 실어 보내는 메시지. 클라이언트는 빠진 번호로 누락을 알아챈다
+public interface SequencedMessage<T extends SequencedMessage<T>> {
+  long seq();
+
+  T withSeq(long seq);
+}
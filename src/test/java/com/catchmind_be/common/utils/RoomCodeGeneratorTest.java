@@ -0,0 +1,30 @@
+package com.catchmind_be.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RoomCodeGeneratorTest {
+
+  private final RoomCodeGenerator generator = new RoomCodeGenerator();
+
+  @Test
+  void 코드는_6자리_영문대문자와숫자다() {
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(generator.nextCode()).matches("[A-Z0-9]{6}");
+    }
+  }
+
+  @Test
+  void 연속으로발급해도_거의겹치지않는다() {
+    Set<String> codes = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      codes.add(generator.nextCode());
+    }
+
+    // 36^6 에서 1000 개를 뽑으면 거의 겹치지 않는다
+    assertThat(codes).hasSizeGreaterThan(990);
+  }
+}
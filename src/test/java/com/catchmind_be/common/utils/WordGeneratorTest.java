@@ -0,0 +1,93 @@
+package com.catchmind_be.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WordGeneratorTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void 사전파일을_카테고리와난이도별로읽는다() throws IOException {
+    WordDictionary dictionary = new WordDictionary(write("""
+        # 주석
+        동물\t1\t강아지
+        동물\t2\t코뿔소
+
+        음식\t1\t사과\r
+        바다
+        """));
+
+    assertThat(dictionary.size()).isEqualTo(4);
+    assertThat(words(dictionary, dictionary.indices("동물", 1))).containsExactly("강아지");
+    assertThat(words(dictionary, dictionary.indices("동물", WordDictionary.ANY_DIFFICULTY)))
+        .containsExactly("강아지", "코뿔소");
+    assertThat(words(dictionary, dictionary.indices(WordDictionary.ANY_CATEGORY, 1)))
+        .containsExactly("강아지", "사과");
+    assertThat(dictionary.indices(WordDictionary.ANY_CATEGORY, WordDictionary.ANY_DIFFICULTY)).isNull();
+    assertThat(dictionary.indices("없는카테고리", 1)).isEmpty();
+  }
+
+  @Test
+  void 파일이없으면_기본단어를쓴다() {
+    WordDictionary dictionary = new WordDictionary(tempDir.resolve("missing.txt").toString());
+
+    assertThat(dictionary.size()).isEqualTo(WordDictionary.DEFAULT_WORDS.size());
+    assertThat(dictionary.word(0)).isEqualTo(WordDictionary.DEFAULT_WORDS.getFirst());
+  }
+
+  @Test
+  void 한게임안에서는_사전을다쓸때까지단어가겹치지않는다() {
+    WordGenerator generator = new WordGenerator(new WordDictionary(""), "", WordDictionary.ANY_DIFFICULTY);
+    UsedWords usedWords = new UsedWords(new SplittableRandom(42));
+
+    Set<String> picked = new HashSet<>();
+    for (int i = 0; i < WordDictionary.DEFAULT_WORDS.size(); i++) {
+      assertThat(picked.add(generator.nextWord(usedWords))).isTrue();
+    }
+    assertThat(picked).containsExactlyInAnyOrderElementsOf(WordDictionary.DEFAULT_WORDS);
+
+    // 다 쓰면 처음부터 다시 돈다
+    assertThat(WordDictionary.DEFAULT_WORDS).contains(generator.nextWord(usedWords));
+    assertThat(usedWords.count()).isEqualTo(1);
+  }
+
+  @Test
+  void 페이지경계를넘어도_빈번호를찾는다() {
+    UsedWords usedWords = new UsedWords(new SplittableRandom(7));
+    int size = 10_000;
+
+    Set<Integer> claimed = new HashSet<>();
+    for (int i = 0; i < size; i++) {
+      claimed.add(usedWords.claim(size));
+    }
+
+    assertThat(claimed).hasSize(size);
+    assertThat(usedWords.isUsed(4095)).isTrue();
+    assertThat(usedWords.isUsed(4096)).isTrue();
+  }
+
+  private String write(String content) throws IOException {
+    Path path = tempDir.resolve("words.txt");
+    Files.writeString(path, content, StandardCharsets.UTF_8);
+    return path.toString();
+  }
+
+  private static String[] words(WordDictionary dictionary, int[] indices) {
+    String[] words = new String[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      words[i] = dictionary.word(indices[i]);
+    }
+    return words;
+  }
+}
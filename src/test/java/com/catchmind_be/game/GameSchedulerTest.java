@@ -0,0 +1,49 @@
+package com.catchmind_be.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameSchedulerTest {
+
+  private final List<FakeTimeout> timeouts = new ArrayList<>();
+  private final GameScheduler gameScheduler = new GameScheduler((task, startAt) -> {
+    FakeTimeout timeout = new FakeTimeout();
+    timeouts.add(timeout);
+    return timeout;
+  });
+
+  @Test
+  void 다시예약하면_이전예약은취소된다() {
+    gameScheduler.schedule(1L, () -> { }, Instant.now().plusSeconds(60));
+    gameScheduler.schedule(1L, () -> { }, Instant.now().plusSeconds(60));
+
+    assertThat(timeouts).extracting(timeout -> timeout.cancelled).containsExactly(true, false);
+  }
+
+  @Test
+  void 취소는_방별로따로처리된다() {
+    gameScheduler.schedule(1L, () -> { }, Instant.now().plusSeconds(60));
+    gameScheduler.schedule(2L, () -> { }, Instant.now().plusSeconds(60));
+
+    gameScheduler.cancel(1L);
+    gameScheduler.cancel(1L);
+
+    assertThat(timeouts).extracting(timeout -> timeout.cancelled).containsExactly(true, false);
+  }
+
+  private static final class FakeTimeout implements RoundTimer.Timeout {
+
+    private boolean cancelled;
+
+    @Override
+    public boolean cancel() {
+      boolean first = !cancelled;
+      cancelled = true;
+      return first;
+    }
+  }
+}
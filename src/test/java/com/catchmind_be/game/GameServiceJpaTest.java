@@ -0,0 +1,189 @@
+package com.catchmind_be.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+import com.catchmind_be.common.utils.WordGenerator;
+import com.catchmind_be.game.entity.GameSession;
+import com.catchmind_be.game.response.GuessResult;
+import com.catchmind_be.journal.StrokeJournal;
+import com.catchmind_be.player.PlayerRepository;
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.player.entity.Player;
+import com.catchmind_be.room.RoomRepository;
+import com.catchmind_be.room.RoomSnapshotAssembler;
+import com.catchmind_be.room.entity.Room;
+import com.catchmind_be.websocket.CanvasRenderer;
+import com.catchmind_be.websocket.RoomEventLog;
+import com.catchmind_be.websocket.StrokeHistory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 여러 스레드가 각자 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 걸지 않고 끝나면 직접 지운다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({GameService.class, GameServiceJpaTest.TestConfig.class})
+class GameServiceJpaTest {
+
+  private static final int GUESSES = 8;
+
+  @Autowired
+  private GameService gameService;
+
+  @Autowired
+  private GameSessionRepository gameSessionRepository;
+
+  @Autowired
+  private PlayerSlotRegistry playerSlotRegistry;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private PlayerRepository playerRepository;
+
+  @AfterEach
+  void tearDown() {
+    roomRepository.deleteAll();
+  }
+
+  @Test
+  void 같은플레이어의_정답이_동시에들어와도_점수가빠짐없이쌓인다() throws Exception {
+    Room room = Room.builder().code("JPA001").build();
+    Player drawer = Player.builder().nickname("drawer").build();
+    Player guesser = Player.builder().nickname("guesser").build();
+    room.addPlayer(drawer);
+    room.addPlayer(guesser);
+    roomRepository.save(room);
+    String drawerId = String.valueOf(drawer.getId());
+    String guesserId = String.valueOf(guesser.getId());
+    playerSlotRegistry.assign(room.getCode(), drawerId);
+    int guesserSlot = playerSlotRegistry.assign(room.getCode(), guesserId);
+
+    // 같은 플레이어가 한 라운드에 두 번 점수를 받을 수는 없으므로, 같은 행을 두고 여러 방의 정답이 겹치게 한다.
+    // 번호는 플레이어마다 하나라서, 여러 방에 모두 들어가 있는 것처럼 번호표만 돌려준다
+    doReturn(guesserId).when(playerSlotRegistry).playerIdAt(anyString(), eq(guesserSlot));
+    List<String> roomCodes = IntStream.range(0, GUESSES).mapToObj(i -> "JPA1" + i).toList();
+    for (int i = 0; i < GUESSES; i++) {
+      String roomCode = roomCodes.get(i);
+      GameSession session = gameSessionRepository.create(1000L + i, roomCode, 2, 60);
+      session.start("사과", new long[]{drawer.getId(), guesser.getId()});
+    }
+
+    CountDownLatch ready = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(GUESSES);
+    List<Future<GuessResult>> results = new ArrayList<>();
+    try {
+      for (String roomCode : roomCodes) {
+        results.add(executor.submit(() -> {
+          ready.await();
+          return gameService.guessWord(roomCode, guesserId, "사과");
+        }));
+      }
+      ready.countDown();
+
+      List<Integer> scores = new ArrayList<>();
+      for (Future<GuessResult> result : results) {
+        scores.add(result.get().score());
+      }
+      // 각자 자기가 더한 직후의 점수를 받으므로 겹치는 값이 없다
+      assertThat(scores).containsExactlyInAnyOrderElementsOf(
+          IntStream.rangeClosed(1, GUESSES).mapToObj(n -> n * 100).toList());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(playerRepository.findScoreById(guesser.getId())).isEqualTo(GUESSES * 100);
+  }
+
+  @TestConfiguration
+  static class TestConfig {
+    @Bean
+    PlayerSlotRegistry playerSlotRegistry() {
+      return Mockito.spy(new PlayerSlotRegistry());
+    }
+
+    @Bean
+    GameSessionRepository gameSessionRepository() {
+      return new MemoryGameSessionRepository();
+    }
+
+    @Bean
+    RoomStateRepository roomStateRepository() {
+      return new MemoryRoomStateRepository();
+    }
+
+    @Bean
+    RoomEventLog roomEventLog() {
+      return new RoomEventLog(16);
+    }
+
+    @Bean
+    TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+      return new TransactionTemplate(transactionManager);
+    }
+
+    // 모두 맞혀 라운드를 일찍 넘기는 명령은 이 테스트와 상관없으므로 메일박스는 목으로 둔다
+    @Bean
+    RoomCommandExecutor roomCommandExecutor() {
+      return Mockito.mock(RoomCommandExecutor.class);
+    }
+
+    @Bean
+    GameScheduler gameScheduler() {
+      return Mockito.mock(GameScheduler.class);
+    }
+
+    @Bean
+    WordGenerator wordGenerator() {
+      return Mockito.mock(WordGenerator.class);
+    }
+
+    @Bean
+    StrokeHistory strokeHistory() {
+      return Mockito.mock(StrokeHistory.class);
+    }
+
+    @Bean
+    CanvasRenderer canvasRenderer() {
+      return Mockito.mock(CanvasRenderer.class);
+    }
+
+    @Bean
+    StrokeJournal strokeJournal() {
+      return Mockito.mock(StrokeJournal.class);
+    }
+
+    @Bean
+    RoomSnapshotAssembler roomSnapshotAssembler() {
+      return Mockito.mock(RoomSnapshotAssembler.class);
+    }
+
+    @Bean
+    SimpMessagingTemplate simpMessagingTemplate() {
+      return Mockito.mock(SimpMessagingTemplate.class);
+    }
+  }
+}
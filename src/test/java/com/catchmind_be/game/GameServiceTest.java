@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -20,14 +21,24 @@ import com.catchmind_be.common.exception.code.ErrorCode;
 import com.catchmind_be.common.utils.WordGenerator;
 import com.catchmind_be.game.entity.GameSession;
 import com.catchmind_be.game.entity.GameStatus;
+import com.catchmind_be.game.entity.RoomState;
 import com.catchmind_be.game.response.GameEventMessage;
 import com.catchmind_be.game.response.GameState;
+import com.catchmind_be.game.response.GuessResult;
+import com.catchmind_be.game.response.ScoreUpdatedEvent;
+import com.catchmind_be.journal.StrokeJournal;
 import com.catchmind_be.player.PlayerRepository;
+import com.catchmind_be.player.PlayerSlotRegistry;
 import com.catchmind_be.player.entity.Player;
 import com.catchmind_be.room.RoomRepository;
+import com.catchmind_be.room.RoomSnapshotAssembler;
 import com.catchmind_be.room.entity.Room;
 import com.catchmind_be.room.entity.RoomStatus;
 import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.websocket.CanvasRenderer;
+import com.catchmind_be.websocket.RoomEventLog;
+import com.catchmind_be.websocket.StrokeHistory;
+import com.catchmind_be.websocket.response.DrawMessage;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -39,9 +50,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,8 +64,12 @@ class GameServiceTest {
   private RoomRepository roomRepository;
   @Mock
   private PlayerRepository playerRepository;
+  @Spy
+  private PlayerSlotRegistry playerSlotRegistry = new PlayerSlotRegistry();
   @Mock
   private GameSessionRepository gameSessionRepository;
+  @Spy
+  private RoomStateRepository roomStateRepository = new MemoryRoomStateRepository();
   @Mock
   private GameScheduler gameScheduler;
   @Mock
@@ -61,6 +78,18 @@ class GameServiceTest {
   private SimpMessagingTemplate messagingTemplate;
   @Mock
   private WordGenerator wordGenerator;
+  @Mock
+  private StrokeHistory strokeHistory;
+  @Mock
+  private CanvasRenderer canvasRenderer;
+  @Spy
+  private RoomEventLog roomEventLog = new RoomEventLog(16);
+  @Mock
+  private StrokeJournal strokeJournal;
+  @Spy
+  private RoomCommandExecutor roomCommandExecutor = new RoomCommandExecutor();
+  @Mock
+  private RoomSnapshotAssembler roomSnapshotAssembler;
 
   @InjectMocks
   private GameService gameService;
@@ -83,7 +112,7 @@ class GameServiceTest {
 
     GameSession session = GameSession.create(room.getId(), room.getCode(), players.size(), 60);
     when(gameSessionRepository.create(room.getId(), room.getCode(), players.size(), 60)).thenReturn(session);
-    when(wordGenerator.randomWord()).thenReturn("test-word");
+    when(wordGenerator.nextWord(any())).thenReturn("test-word");
 
     Instant beforeStart = Instant.now();
 
@@ -99,6 +128,8 @@ class GameServiceTest {
     verify(gameScheduler).cancel(room.getId());
     verify(gameScheduler).schedule(eq(room.getId()), any(Runnable.class), startAtCaptor.capture());
 
+    verify(strokeJournal).open(room.getCode());
+
     long deltaMillis = Math.abs(Duration.between(beforeStart.plusSeconds(60), startAtCaptor.getValue()).toMillis());
     assertThat(deltaMillis).isLessThan(1000L);
   }
@@ -164,7 +195,7 @@ class GameServiceTest {
     when(playerRepository.findPlayersByRoomCodeOrdered(room.getCode())).thenReturn(players);
     when(gameSessionRepository.create(room.getId(), room.getCode(), players.size(), 60))
         .thenReturn(GameSession.create(room.getId(), room.getCode(), players.size(), 60));
-    when(wordGenerator.randomWord()).thenReturn("word");
+    when(wordGenerator.nextWord(any())).thenReturn("word");
 
     gameService.startGame(room.getCode());
 
@@ -187,14 +218,12 @@ class GameServiceTest {
     List<Player> players = List.of(host, guest);
 
     GameSession session = GameSession.create(room.getId(), room.getCode(), players.size(), 60);
-    String order = host.getId() + "," + guest.getId();
-    session.start("word-1", host.getId().toString(), order);
-    session.nextRound("word-2", guest.getId().toString());
+    session.start("word-1", new long[]{host.getId(), guest.getId()});
+    session.nextRound("word-2");
 
     when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
-    when(roomRepository.findByCode(room.getCode())).thenReturn(Optional.of(room));
-    when(playerRepository.findPlayersByRoomCodeOrdered(room.getCode())).thenReturn(players);
-    when(gameSessionRepository.getOrCreate(room)).thenReturn(session);
+    when(roomSnapshotAssembler.assemble(room.getCode())).thenReturn(스냅샷(room));
+    when(gameSessionRepository.findByRoomId(room.getId())).thenReturn(Optional.of(session));
 
     트랜잭션템플릿스텁();
 
@@ -216,8 +245,7 @@ class GameServiceTest {
 
     GameSession session = GameSession.create(room.getId(), room.getCode(), 0, 60);
 
-    when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
-    when(gameSessionRepository.getOrCreate(room)).thenReturn(session);
+    when(gameSessionRepository.findByRoomId(room.getId())).thenReturn(Optional.of(session));
 
     트랜잭션템플릿스텁();
 
@@ -244,14 +272,11 @@ class GameServiceTest {
     List<Player> players = List.of(p1, p2, p3);
 
     GameSession session = GameSession.create(room.getId(), room.getCode(), players.size(), 60);
-    String order = p1.getId() + "," + p2.getId() + "," + p3.getId();
-    session.start("word-1", p1.getId().toString(), order);
+    session.start("word-1", new long[]{p1.getId(), p2.getId(), p3.getId()});
 
-    when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
-    when(roomRepository.findByCode(room.getCode())).thenReturn(Optional.of(room));
-    when(playerRepository.findPlayersByRoomCodeOrdered(room.getCode())).thenReturn(players);
-    when(gameSessionRepository.getOrCreate(room)).thenReturn(session);
-    when(wordGenerator.randomWord()).thenReturn("word-2");
+    when(roomSnapshotAssembler.assemble(room.getCode())).thenReturn(스냅샷(room));
+    when(gameSessionRepository.findByRoomId(room.getId())).thenReturn(Optional.of(session));
+    when(wordGenerator.nextWord(any())).thenReturn("word-2");
 
     트랜잭션템플릿스텁();
 
@@ -259,6 +284,8 @@ class GameServiceTest {
 
     assertThat(session.getCurrentRound()).isEqualTo(2);
     assertThat(session.getCurrentDrawerId()).isEqualTo(String.valueOf(p2.getId()));
+    verify(strokeHistory).clear(room.getCode());
+    verify(canvasRenderer).clear(room.getCode());
 
     ArgumentCaptor<String> destinationCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
@@ -282,10 +309,54 @@ class GameServiceTest {
     assertThat(events.get(1).currentDrawerId()).isEqualTo(String.valueOf(p2.getId()));
     assertThat(events.get(1).word()).isEqualTo("word-2");
 
+    RoomSnapshotResponse snapshot = (RoomSnapshotResponse) payloadCaptor.getAllValues().get(0);
+    assertThat(snapshot.seq()).isEqualTo(1L);
+    assertThat(events).extracting(GameEventMessage::seq).containsExactly(2L, 3L);
+
     verify(gameScheduler).schedule(eq(room.getId()), any(Runnable.class), any(Instant.class));
     verify(gameSessionRepository, never()).remove(room.getId());
   }
 
+  @Test
+  void 라운드타임아웃_예약후라운드가바뀌었으면무시() {
+    Room room = Room.builder()
+        .id(19L)
+        .code("ROOM19")
+        .status(RoomStatus.PLAYING)
+        .createdAt(Instant.now())
+        .build();
+
+    GameSession session = GameSession.create(room.getId(), room.getCode(), 3, 60);
+    session.start("word-1", new long[]{191L, 192L, 193L});
+    long staleGeneration = session.getRoundGeneration();
+    session.nextRound("word-2");
+
+    when(gameSessionRepository.findByRoomId(room.getId())).thenReturn(Optional.of(session));
+
+    트랜잭션템플릿스텁();
+
+    gameService.executeRoundTimeout(room.getId(), staleGeneration);
+
+    assertThat(session.getCurrentRound()).isEqualTo(2);
+    assertThat(session.getCurrentDrawerId()).isEqualTo("192");
+    verifyNoInteractions(messagingTemplate, gameScheduler);
+    verify(gameSessionRepository, never()).remove(room.getId());
+  }
+
+  @Test
+  void 라운드타임아웃_게임이끝나세션이없으면_되살리지않는다() {
+    when(gameSessionRepository.findByRoomId(20L)).thenReturn(Optional.empty());
+
+    트랜잭션템플릿스텁();
+
+    gameService.executeRoundTimeout(20L, 1L);
+
+    verify(gameSessionRepository, never()).getOrCreate(any());
+    verify(gameSessionRepository, never()).create(anyLong(), any(), anyInt(), anyInt());
+    verify(gameScheduler).cancel(20L);
+    verifyNoInteractions(roomRepository, messagingTemplate);
+  }
+
   @Test
   void 게임종료_진행중이면완료표시() {
     Room room = Room.builder()
@@ -296,7 +367,7 @@ class GameServiceTest {
         .build();
 
     GameSession session = GameSession.create(room.getId(), room.getCode(), 2, 60);
-    session.start("word", "player", "player");
+    session.start("word", new long[]{81L});
 
     when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
     when(roomRepository.save(room)).thenReturn(room);
@@ -332,6 +403,219 @@ class GameServiceTest {
     verify(gameSessionRepository).remove(room.getId());
   }
 
+  @Test
+  void 그리기권한_메모리상태로판단하고DB조회없음() {
+    Room room = Room.builder()
+        .id(10L)
+        .code("ROOM10")
+        .status(RoomStatus.WAITING)
+        .createdAt(Instant.now())
+        .build();
+
+    Player host = 플레이어생성(101L, room, "host");
+    Player guest = 플레이어생성(102L, room, "guest");
+    List<Player> players = List.of(host, guest);
+
+    when(roomRepository.findByCode(room.getCode())).thenReturn(Optional.of(room));
+    when(playerRepository.findPlayersByRoomCodeOrdered(room.getCode())).thenReturn(players);
+    when(gameSessionRepository.create(room.getId(), room.getCode(), players.size(), 60))
+        .thenReturn(GameSession.create(room.getId(), room.getCode(), players.size(), 60));
+    when(wordGenerator.nextWord(any())).thenReturn("word");
+
+    gameService.startGame(room.getCode());
+
+    assertThat(gameService.canDraw(room.getCode(), 그리기메시지(host))).isTrue();
+    assertThat(gameService.canDraw(room.getCode(), 그리기메시지(guest))).isFalse();
+    verify(roomRepository, times(1)).findByCode(room.getCode());
+    verify(gameSessionRepository, never()).getOrCreate(any());
+  }
+
+  @Test
+  void 그리기권한_게임종료후거부() {
+    Room room = Room.builder()
+        .id(11L)
+        .code("ROOM11")
+        .status(RoomStatus.PLAYING)
+        .createdAt(Instant.now())
+        .build();
+
+    GameSession session = GameSession.create(room.getId(), room.getCode(), 2, 60);
+    session.start("word", new long[]{111L, 112L});
+    roomStateRepository.save(room.getCode(), RoomState.playing("111"));
+
+    when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+    when(roomRepository.save(room)).thenReturn(room);
+    when(gameSessionRepository.getOrCreate(room)).thenReturn(session);
+
+    gameService.endGame(room.getId());
+
+    assertThat(roomStateRepository.find(room.getCode())).isNull();
+    assertThat(gameService.canDraw(room.getCode(),
+        new DrawMessage("111", 0, 0, 1, 1, "#000000", 2))).isFalse();
+  }
+
+  @Test
+  void 정답추측_오답은_DB조회없이거부() {
+    GameSession session = GameSession.create(12L, "ROOM12", 2, 60);
+    session.start("사과", new long[]{121L, 122L});
+    when(gameSessionRepository.findByRoomCode("ROOM12")).thenReturn(Optional.of(session));
+
+    GuessResult result = gameService.guessWord("ROOM12", "122", "안녕하세요");
+
+    assertThat(result.correct()).isFalse();
+    verifyNoInteractions(roomRepository, playerRepository);
+  }
+
+  @Test
+  void 정답추측_공백과대소문자무시하고점수반영() {
+    Room room = Room.builder()
+        .id(13L)
+        .code("ROOM13")
+        .status(RoomStatus.PLAYING)
+        .createdAt(Instant.now())
+        .build();
+    GameSession session = GameSession.create(room.getId(), room.getCode(), 2, 60);
+    session.start("Ice Cream", new long[]{131L, 132L});
+    playerSlotRegistry.assign(room.getCode(), "132");
+    when(gameSessionRepository.findByRoomCode(room.getCode())).thenReturn(Optional.of(session));
+    when(playerRepository.addScore(132L, 100)).thenReturn(1);
+    when(playerRepository.findScoreById(132L)).thenReturn(100);
+    점수트랜잭션스텁();
+
+    GuessResult result = gameService.guessWord(room.getCode(), "132", " icecream ");
+
+    assertThat(result.correct()).isTrue();
+    assertThat(result.playerId()).isEqualTo("132");
+    assertThat(result.score()).isEqualTo(100);
+    verify(playerRepository).addScore(132L, 100);
+    verify(playerRepository, never()).save(any());
+    verifyNoInteractions(roomRepository);
+    // 정답 표시는 메일박스를 기다리지 않는다
+    verify(roomCommandExecutor, never()).call(anyLong(), any());
+  }
+
+  @Test
+  void 정답추측_같은라운드에다시맞혀도_점수는한번만() {
+    GameSession session = GameSession.create(16L, "ROOM16", 3, 60);
+    session.start("사과", new long[]{161L, 162L, 163L});
+    playerSlotRegistry.assign("ROOM16", "162");
+    when(gameSessionRepository.findByRoomCode("ROOM16")).thenReturn(Optional.of(session));
+    when(playerRepository.addScore(162L, 100)).thenReturn(1);
+    when(playerRepository.findScoreById(162L)).thenReturn(100);
+    점수트랜잭션스텁();
+
+    assertThat(gameService.guessWord("ROOM16", "162", "사과").correct()).isTrue();
+    assertThat(gameService.guessWord("ROOM16", "162", "사과").correct()).isFalse();
+
+    verify(playerRepository, times(1)).addScore(162L, 100);
+  }
+
+  @Test
+  void 정답추측_방에서번호를받지않은사람은_번호도점수도받지못한다() {
+    GameSession session = GameSession.create(18L, "ROOM18", 2, 60);
+    session.start("사과", new long[]{181L, 182L});
+    playerSlotRegistry.assign("ROOM18", "181");
+    playerSlotRegistry.assign("ROOM18", "182");
+    playerSlotRegistry.assign("OTHER1", "999");
+    when(gameSessionRepository.findByRoomCode("ROOM18")).thenReturn(Optional.of(session));
+
+    assertThat(gameService.guessWord("ROOM18", "777", "사과").correct()).isFalse();
+    assertThat(gameService.guessWord("ROOM18", "999", "사과").correct()).isFalse();
+    assertThat(gameService.guessWord("ROOM18", "not-a-number", "사과").correct()).isFalse();
+
+    assertThat(playerSlotRegistry.slotOf("777")).isEqualTo(PlayerSlotRegistry.NO_SLOT);
+    // 다른 방 번호(999)가 이 방의 같은 번호 자리에 표시되지 않는다
+    assertThat(session.getGuessRound().hasGuessed(playerSlotRegistry.slotOf("999"))).isFalse();
+    verifyNoInteractions(playerRepository);
+  }
+
+  @Test
+  void 정답추측_그리는사람과대기중인방은거부() {
+    GameSession session = GameSession.create(14L, "ROOM14", 2, 60);
+    session.start("사과", new long[]{141L, 142L});
+    when(gameSessionRepository.findByRoomCode("ROOM14")).thenReturn(Optional.of(session));
+    when(gameSessionRepository.findByRoomCode("ROOM15")).thenReturn(Optional.empty());
+
+    assertThat(gameService.guessWord("ROOM14", "141", "사과").correct()).isFalse();
+    assertThat(gameService.guessWord("ROOM15", "151", "사과").correct()).isFalse();
+    verifyNoInteractions(roomRepository, playerRepository);
+  }
+
+  @Test
+  void 정답추측_아깝게틀리면_힌트결과만돌려준다() {
+    GameSession session = GameSession.create(18L, "ROOM18", 2, 60);
+    session.start("사과나무", new long[]{181L, 182L});
+    when(gameSessionRepository.findByRoomCode("ROOM18")).thenReturn(Optional.of(session));
+
+    GuessResult result = gameService.guessWord("ROOM18", "182", "사과나뮤");
+
+    assertThat(result.correct()).isFalse();
+    assertThat(result.nearMiss()).isTrue();
+    verifyNoInteractions(roomRepository, playerRepository);
+  }
+
+  @Test
+  void 정답추측_그리는사람빼고모두맞히면_라운드를바로넘긴다() {
+    Room room = Room.builder()
+        .id(20L)
+        .code("ROOM20")
+        .status(RoomStatus.PLAYING)
+        .createdAt(Instant.now())
+        .build();
+    Player drawer = 플레이어생성(201L, room, "drawer");
+    Player first = 플레이어생성(202L, room, "first");
+    Player second = 플레이어생성(203L, room, "second");
+    List<Player> players = List.of(drawer, first, second);
+    players.forEach(player -> playerSlotRegistry.assign(room.getCode(), String.valueOf(player.getId())));
+
+    GameSession session = GameSession.create(room.getId(), room.getCode(), players.size(), 60);
+    session.start("사과", new long[]{201L, 202L, 203L});
+
+    when(gameSessionRepository.findByRoomCode(room.getCode())).thenReturn(Optional.of(session));
+    when(playerRepository.addScore(anyLong(), eq(100))).thenReturn(1);
+    when(playerRepository.findScoreById(anyLong())).thenReturn(100);
+    점수트랜잭션스텁();
+    when(roomSnapshotAssembler.assemble(room.getCode())).thenReturn(스냅샷(room));
+    when(gameSessionRepository.findByRoomId(room.getId())).thenReturn(Optional.of(session));
+    when(wordGenerator.nextWord(any())).thenReturn("바나나");
+    트랜잭션템플릿스텁();
+
+    gameService.guessWord(room.getCode(), "202", "사과");
+    verify(gameScheduler, never()).cancel(room.getId());
+
+    gameService.guessWord(room.getCode(), "203", "사과");
+
+    verify(gameScheduler, timeout(2000)).schedule(eq(room.getId()), any(Runnable.class), any(Instant.class));
+    verify(gameScheduler).cancel(room.getId());
+    assertThat(session.getCurrentRound()).isEqualTo(2);
+    assertThat(session.getCurrentDrawerId()).isEqualTo("202");
+
+    ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(messagingTemplate, times(3)).convertAndSend(anyString(), payloadCaptor.capture());
+    assertThat(payloadCaptor.getAllValues().stream()
+        .filter(GameEventMessage.class::isInstance)
+        .map(GameEventMessage.class::cast)
+        .map(GameEventMessage::type))
+        .containsExactly("ROUND_COMPLETED", "ROUND_STARTED");
+  }
+
+  @Test
+  void 점수이벤트_게임채널로순번붙여전송() {
+    GameSession session = GameSession.create(17L, "ROOM17", 2, 60);
+    session.start("사과", new long[]{171L, 172L});
+
+    gameService.broadcastScoreUpdated("ROOM17", GuessResult.correct(session, "172", 300, 1));
+
+    ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(messagingTemplate).convertAndSend(eq("/topic/rooms/ROOM17/game"), payloadCaptor.capture());
+    assertThat(payloadCaptor.getValue()).isEqualTo(new ScoreUpdatedEvent("SCORE_UPDATED", "172", 300, 1, 1L));
+    verifyNoInteractions(roomRepository, playerRepository);
+  }
+
+  private DrawMessage 그리기메시지(Player player) {
+    return new DrawMessage(String.valueOf(player.getId()), 0, 0, 10, 10, "#000000", 2);
+  }
+
   private Player 플레이어생성(long id, Room room, String nickname) {
     return Player.builder()
         .id(id)
@@ -341,6 +625,11 @@ class GameServiceTest {
         .build();
   }
 
+  private RoomSnapshotResponse 스냅샷(Room room) {
+    return new RoomSnapshotResponse(room.getCode(), room.getHostPlayerId(), List.of(),
+        room.getStatus().name(), 0, 0);
+  }
+
   private void 트랜잭션템플릿스텁() {
     doAnswer(invocation -> {
       Consumer<TransactionStatus> action = invocation.getArgument(0);
@@ -348,4 +637,11 @@ class GameServiceTest {
       return null;
     }).when(transactionTemplate).executeWithoutResult(any());
   }
+
+  private void 점수트랜잭션스텁() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+      TransactionCallback<?> action = invocation.getArgument(0);
+      return action.doInTransaction(null);
+    });
+  }
 }
@@ -0,0 +1,55 @@
+package com.catchmind_be.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelRoundTimerTest {
+
+  // 휠 한 바퀴가 80ms 라 몇 바퀴 도는 경우도 함께 본다
+  private final HashedWheelRoundTimer roundTimer = new HashedWheelRoundTimer(10, 8);
+
+  @AfterEach
+  void tearDown() {
+    roundTimer.shutdown();
+  }
+
+  @Test
+  void 시각이되면_실행한다() throws InterruptedException {
+    CountDownLatch fired = new CountDownLatch(1);
+    long startedAt = System.nanoTime();
+
+    roundTimer.schedule(fired::countDown, Instant.now().plusMillis(200));
+
+    assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  void 취소하면_실행하지않는다() throws InterruptedException {
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch later = new CountDownLatch(1);
+
+    RoundTimer.Timeout timeout = roundTimer.schedule(runs::incrementAndGet, Instant.now().plusMillis(50));
+    roundTimer.schedule(later::countDown, Instant.now().plusMillis(150));
+
+    assertThat(timeout.cancel()).isTrue();
+    assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(runs.get()).isZero();
+    assertThat(timeout.cancel()).isFalse();
+  }
+
+  @Test
+  void 이미지난시각은_다음tick에실행한다() throws InterruptedException {
+    CountDownLatch fired = new CountDownLatch(1);
+
+    roundTimer.schedule(fired::countDown, Instant.now().minusSeconds(1));
+
+    assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+}
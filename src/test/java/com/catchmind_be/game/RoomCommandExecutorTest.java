@@ -0,0 +1,108 @@
+package com.catchmind_be.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RoomCommandExecutorTest {
+
+  private final RoomCommandExecutor roomCommandExecutor = new RoomCommandExecutor();
+
+  @AfterEach
+  void tearDown() {
+    roomCommandExecutor.shutdown();
+  }
+
+  @Test
+  void 같은방명령은_락없이도하나씩처리된다() throws Exception {
+    int[] counter = new int[1];
+    ExecutorService callers = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(callers.submit(() -> {
+          for (int j = 0; j < 1_000; j++) {
+            roomCommandExecutor.run(1L, () -> counter[0]++);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      callers.shutdownNow();
+    }
+
+    assertThat(roomCommandExecutor.call(1L, () -> counter[0])).isEqualTo(8_000);
+  }
+
+  @Test
+  void 명령안에서같은방명령을부르면_바로실행한다() {
+    String result = roomCommandExecutor.call(2L, () -> roomCommandExecutor.call(2L, () -> "inner"));
+
+    assertThat(result).isEqualTo("inner");
+  }
+
+  @Test
+  void 명령이던진예외는_호출한쪽으로그대로전달된다() {
+    assertThatThrownBy(() -> roomCommandExecutor.run(3L, () -> {
+      throw new CustomException(ErrorCode.GAME_ALREADY_STARTED);
+    }))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GAME_ALREADY_STARTED);
+  }
+
+  @Test
+  void 넣기만한명령도_순서대로처리된다() throws Exception {
+    List<Integer> order = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    for (int i = 0; i < 100; i++) {
+      int value = i;
+      roomCommandExecutor.submit(4L, () -> order.add(value));
+    }
+    roomCommandExecutor.submit(4L, done::countDown);
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(order).hasSize(100).isSorted();
+  }
+
+  @Test
+  void 지운방의메일박스는_남은명령을다비운뒤에빠진다() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+    roomCommandExecutor.submit(5L, () -> {
+      running.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+    roomCommandExecutor.remove(5L);
+    roomCommandExecutor.submit(5L, done::countDown);
+    assertThat(roomCommandExecutor.size()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (roomCommandExecutor.size() > 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(roomCommandExecutor.size()).isZero();
+  }
+}
@@ -0,0 +1,61 @@
+package com.catchmind_be.game;
+
+import java.time.Instant;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * GameScheduler 백엔드 비교용 벤치마크. 테스트 실행에는 포함되지 않고 main 으로 직접 돌린다.
+ * 방 rooms 개가 라운드마다 타임아웃을 취소하고 다시 거는 흐름(GameScheduler.schedule)을 그대로 흉내 낸다.
+ *
+ * 사용법: RoundTimerBenchmark [rooms=50000] [rounds=20]
+ */
+public class RoundTimerBenchmark {
+
+  private static final long ROUND_SECONDS = 60;
+
+  public static void main(String[] args) {
+    int rooms = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    taskScheduler.setPoolSize(1);
+    taskScheduler.setRemoveOnCancelPolicy(true);
+    taskScheduler.initialize();
+    HashedWheelRoundTimer hashedWheel = new HashedWheelRoundTimer(100, 512);
+    try {
+      RoundTimer taskSchedulerTimer = new TaskSchedulerRoundTimer(taskScheduler);
+      // JIT 예열
+      run("warm-up", taskSchedulerTimer, rooms / 10, rounds);
+      run("warm-up", hashedWheel, rooms / 10, rounds);
+
+      run("task-scheduler", taskSchedulerTimer, rooms, rounds);
+      run("hashed-wheel", hashedWheel, rooms, rounds);
+    } finally {
+      taskScheduler.shutdown();
+      hashedWheel.shutdown();
+    }
+  }
+
+  private static void run(String name, RoundTimer roundTimer, int rooms, int rounds) {
+    GameScheduler gameScheduler = new GameScheduler(roundTimer);
+    Runnable noop = () -> { };
+
+    long startedAt = System.nanoTime();
+    for (int round = 0; round < rounds; round++) {
+      Instant startAt = Instant.now().plusSeconds(ROUND_SECONDS);
+      for (long roomId = 0; roomId < rooms; roomId++) {
+        gameScheduler.schedule(roomId, noop, startAt);
+      }
+    }
+    long elapsed = System.nanoTime() - startedAt;
+    for (long roomId = 0; roomId < rooms; roomId++) {
+      gameScheduler.cancel(roomId);
+    }
+
+    long operations = (long) rooms * rounds;
+    if (!"warm-up".equals(name)) {
+      System.out.printf("%-15s rooms=%d rounds=%d  %.1f ns/op (cancel + schedule), %.2f ms total%n",
+          name, rooms, rounds, (double) elapsed / operations, elapsed / 1_000_000.0);
+    }
+  }
+}
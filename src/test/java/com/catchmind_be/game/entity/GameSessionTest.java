@@ -0,0 +1,60 @@
+package com.catchmind_be.game.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class GameSessionTest {
+
+  @Test
+  void 그리는순서대로_라운드를넘긴다() {
+    GameSession session = GameSession.create(1L, "ROOM01", 3, 60);
+    session.start("word-1", new long[]{11L, 12L, 13L});
+
+    assertThat(session.getCurrentDrawerId()).isEqualTo("11");
+    assertThat(session.nextDrawer()).isEqualTo(12L);
+    assertThat(session.isLastRound()).isFalse();
+
+    session.nextRound("word-2");
+    session.nextRound("word-3");
+
+    assertThat(session.getCurrentRound()).isEqualTo(3);
+    assertThat(session.getCurrentDrawerId()).isEqualTo("13");
+    assertThat(session.isLastRound()).isTrue();
+    assertThatThrownBy(session::nextDrawer).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void 라운드수가순서보다적으면_라운드수에서끝난다() {
+    GameSession session = GameSession.create(2L, "ROOM02", 1, 60);
+    session.start("word", new long[]{21L, 22L});
+
+    assertThat(session.isLastRound()).isTrue();
+  }
+
+  @Test
+  void 시작할때받은배열을바꿔도_순서는그대로다() {
+    long[] order = {31L, 32L};
+    GameSession session = GameSession.create(3L, "ROOM03", 2, 60);
+    session.start("word", order);
+
+    order[1] = 99L;
+
+    assertThat(session.nextDrawer()).isEqualTo(32L);
+  }
+
+  @Test
+  void 라운드가넘어가면_이전라운드의맞힌표시는_새라운드에남지않는다() {
+    GameSession session = GameSession.create(4L, "ROOM04", 3, 60);
+    session.start("word-1", new long[]{41L, 42L, 43L});
+    GuessRound first = session.getGuessRound();
+
+    session.nextRound("word-2");
+
+    assertThat(first.markGuessed(1)).isTrue();
+    assertThat(session.isRoundGeneration(first.getGeneration())).isFalse();
+    assertThat(session.getGuessRound().hasGuessed(1)).isFalse();
+    assertThat(session.getGuessRound().getNumber()).isEqualTo(2);
+  }
+}
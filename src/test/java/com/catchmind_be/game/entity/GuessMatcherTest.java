@@ -0,0 +1,61 @@
+package com.catchmind_be.game.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+import org.junit.jupiter.api.Test;
+
+class GuessMatcherTest {
+
+  @Test
+  void 공백과대소문자는_무시한다() {
+    GuessMatcher matcher = GuessMatcher.of("Ice Cream");
+
+    assertThat(matcher.matches("icecream")).isTrue();
+    assertThat(matcher.matches("  ICE\tcream ")).isTrue();
+    assertThat(matcher.matches("ice creams")).isFalse();
+    assertThat(matcher.matches("ice")).isFalse();
+  }
+
+  @Test
+  void 분해된한글과_호환자모도_같은정답으로본다() {
+    GuessMatcher matcher = GuessMatcher.of("사과");
+
+    assertThat(matcher.matches("사 과")).isTrue();
+    assertThat(matcher.matches(Normalizer.normalize("사과", Normalizer.Form.NFD))).isTrue();
+    assertThat(matcher.matches("ㅅㅏㄱㅘ")).isTrue();
+    assertThat(matcher.matches("사고")).isFalse();
+    // 호환 자음은 초성으로만 바뀌어 받침이 되지 않는다
+    assertThat(GuessMatcher.of("강아지").matches("ㄱㅏㅇㅇㅏㅈㅣ")).isFalse();
+  }
+
+  @Test
+  void 전각문자는_반각으로접는다() {
+    assertThat(GuessMatcher.of("abc").matches("ＡＢＣ")).isTrue();
+  }
+
+  @Test
+  void 정답이없으면_아무것도맞지않는다() {
+    assertThat(GuessMatcher.none().matches("")).isFalse();
+    assertThat(GuessMatcher.of(" ").matches(" ")).isFalse();
+    assertThat(GuessMatcher.of("사과").matches(null)).isFalse();
+  }
+
+  @Test
+  void 자모한두개차이는_아깝다고본다() {
+    GuessMatcher matcher = GuessMatcher.of("사과나무");
+
+    assertThat(matcher.isNearMiss("사과나뮤")).isTrue();
+    assertThat(matcher.isNearMiss("사가나무")).isTrue();
+    assertThat(matcher.isNearMiss("사과 나무")).isFalse();
+    assertThat(matcher.isNearMiss("사과")).isFalse();
+    assertThat(matcher.isNearMiss("안녕하세요 반갑습니다")).isFalse();
+  }
+
+  @Test
+  void 짧은정답은_허용거리를줄인다() {
+    assertThat(GuessMatcher.of("apple").isNearMiss("appla")).isTrue();
+    assertThat(GuessMatcher.of("apple").isNearMiss("appel")).isFalse();
+    assertThat(GuessMatcher.of("ab").isNearMiss("ac")).isFalse();
+  }
+}
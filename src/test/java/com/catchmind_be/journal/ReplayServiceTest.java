@@ -0,0 +1,135 @@
+package com.catchmind_be.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+class ReplayServiceTest {
+
+  @TempDir
+  Path directory;
+
+  private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+  @BeforeEach
+  void setUp() {
+    taskScheduler.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskScheduler.shutdown();
+  }
+
+  @Test
+  void 끝난게임은_헤더와기록된레코드만보낸다() throws IOException {
+    StrokeJournal strokeJournal = new StrokeJournal(new PlayerSlotRegistry(), directory, 4096);
+    strokeJournal.open("ROOM1");
+    strokeJournal.append("ROOM1", new DrawMessage("1", 0, 0, 1, 1, "#000000", 2));
+    strokeJournal.append("ROOM1", new DrawMessage("1", 1, 1, 2, 2, "#000000", 2));
+    strokeJournal.roll("ROOM1");
+    ReplayService replayService = new ReplayService(strokeJournal, taskScheduler);
+    Path path = strokeJournal.segmentPath("ROOM1", 1);
+
+    byte[] instant = play(replayService, ReplayService.Replay.open(path, 0));
+    byte[] paced = play(replayService, ReplayService.Replay.open(path, 1000));
+
+    int expectedLength = StrokeJournal.HEADER_SIZE + 2 * StrokeJournal.RECORD_SIZE;
+    assertThat(instant).hasSize(expectedLength);
+    assertThat(paced).isEqualTo(instant);
+    assertThat(ByteBuffer.wrap(instant).getInt(4)).isEqualTo(2);
+  }
+
+  @Test
+  void 진행중이거나없는게임은_거부한다() {
+    StrokeJournal strokeJournal = new StrokeJournal(new PlayerSlotRegistry(), directory, 4096);
+    strokeJournal.open("ROOM2");
+    ReplayService replayService = new ReplayService(strokeJournal, taskScheduler);
+
+    assertThatThrownBy(() -> replayService.replay("ROOM2", 1, 1))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPLAY_NOT_READY);
+    assertThatThrownBy(() -> replayService.replay("ROOM2", 2, 1))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPLAY_NOT_FOUND);
+    assertThatThrownBy(() -> replayService.replay("../ROOM2", 1, 1))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+  }
+
+  @Test
+  void 받아가지않는클라이언트가있어도_스케줄러는막히지않는다() throws Exception {
+    StrokeJournal strokeJournal = new StrokeJournal(new PlayerSlotRegistry(), directory, 4096);
+    strokeJournal.open("ROOM3");
+    strokeJournal.append("ROOM3", new DrawMessage("1", 0, 0, 10, 10, "#000000", 2));
+    strokeJournal.roll("ROOM3");
+    ReplayService replayService = new ReplayService(strokeJournal, taskScheduler);
+    CountDownLatch stalled = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+
+    replayService.start(ReplayService.Replay.open(strokeJournal.segmentPath("ROOM3", 1), 0), new ResponseBodyEmitter() {
+      @Override
+      public void send(Object object, MediaType mediaType) throws IOException {
+        stalled.countDown();
+        try {
+          unblock.await();
+        } catch (InterruptedException exception) {
+          throw new IOException(exception);
+        }
+      }
+    });
+    try {
+      assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+      CountDownLatch ran = new CountDownLatch(1);
+      taskScheduler.execute(ran::countDown);
+      assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      unblock.countDown();
+      replayService.shutdown();
+    }
+  }
+
+  private byte[] play(ReplayService replayService, ReplayService.Replay replay) {
+    CapturingEmitter emitter = new CapturingEmitter();
+    replayService.start(replay, emitter);
+    try {
+      assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+    return emitter.body.toByteArray();
+  }
+
+  // 서블릿 없이 보낸 바이트만 모은다
+  private static final class CapturingEmitter extends ResponseBodyEmitter {
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public synchronized void send(Object object, MediaType mediaType) {
+      body.writeBytes((byte[]) object);
+    }
+
+    @Override
+    public synchronized void complete() {
+      completed.countDown();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.catchmind_be.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.codec.StrokeCodec;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StrokeJournalTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void 게임마다_세그먼트를만들고_닫을때레코드수를기록한다() throws IOException {
+    PlayerSlotRegistry playerSlotRegistry = new PlayerSlotRegistry();
+    playerSlotRegistry.assign("ROOM1", "10");
+    StrokeJournal strokeJournal = new StrokeJournal(playerSlotRegistry, directory, 4096);
+
+    strokeJournal.open("ROOM1");
+    strokeJournal.append("ROOM1", new DrawMessage("10", 1, 2, 3, 4, "#000000", 2));
+    strokeJournal.append("ROOM1", new DrawMessage("10", 3, 4, 5, 6, "#000000", 2));
+    strokeJournal.roll("ROOM1");
+    strokeJournal.append("ROOM1", new DrawMessage("10", 5, 6, 7, 8, "#000000", 2));
+
+    strokeJournal.open("ROOM1");
+    strokeJournal.roll("ROOM1");
+
+    ByteBuffer first = ByteBuffer.wrap(Files.readAllBytes(strokeJournal.segmentPath("ROOM1", 1)));
+    assertThat(first.capacity()).isEqualTo(StrokeJournal.HEADER_SIZE + 2 * StrokeJournal.RECORD_SIZE);
+    assertThat(first.getInt(0)).isEqualTo(StrokeJournal.MAGIC);
+    assertThat(first.getInt(4)).isEqualTo(2);
+    int secondRecord = StrokeJournal.HEADER_SIZE + StrokeJournal.RECORD_SIZE + Integer.BYTES;
+    assertThat(StrokeCodec.readSlot(first, secondRecord)).isZero();
+    assertThat(StrokeCodec.decode(first, secondRecord, "10").toY()).isEqualTo(6);
+
+    ByteBuffer second = ByteBuffer.wrap(Files.readAllBytes(strokeJournal.segmentPath("ROOM1", 2)));
+    assertThat(second.getInt(4)).isZero();
+  }
+
+  @Test
+  void 방마다_최근게임만남기고_지워진뒤에도_번호는이어진다() throws IOException {
+    StrokeJournal strokeJournal = new StrokeJournal(new PlayerSlotRegistry(), directory, 4096, 2, 24);
+
+    for (int i = 0; i < 3; i++) {
+      strokeJournal.open("ROOM1");
+      strokeJournal.roll("ROOM1");
+    }
+
+    assertThat(strokeJournal.segmentPath("ROOM1", 1)).doesNotExist();
+    assertThat(strokeJournal.segmentPath("ROOM1", 2)).exists();
+    assertThat(strokeJournal.segmentPath("ROOM1", 3)).exists();
+  }
+
+  @Test
+  void 보관기간이지난세그먼트와_빈방디렉터리는_정리된다() throws IOException {
+    StrokeJournal strokeJournal = new StrokeJournal(new PlayerSlotRegistry(), directory, 4096, 20, 0);
+    strokeJournal.open("ROOM1");
+    strokeJournal.roll("ROOM1");
+    strokeJournal.open("ROOM2");
+    Path old = strokeJournal.segmentPath("ROOM1", 1);
+    Files.setLastModifiedTime(old, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+    strokeJournal.sweep();
+
+    assertThat(old.getParent()).doesNotExist();
+    assertThat(strokeJournal.segmentPath("ROOM2", 1)).exists();
+  }
+}
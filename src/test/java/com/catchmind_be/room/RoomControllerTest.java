@@ -0,0 +1,91 @@
+package com.catchmind_be.room;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.catchmind_be.common.exception.response.ApiResponse;
+import com.catchmind_be.game.GameService;
+import com.catchmind_be.journal.ReplayService;
+import com.catchmind_be.room.RoomSnapshotCache.VersionedSnapshot;
+import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.websocket.CanvasRenderer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@ExtendWith(MockitoExtension.class)
+class RoomControllerTest {
+
+  @Mock
+  private RoomService roomService;
+  @Mock
+  private GameService gameService;
+  @Mock
+  private CanvasRenderer canvasRenderer;
+  @Mock
+  private ReplayService replayService;
+
+  @InjectMocks
+  private RoomController roomController;
+
+  private final VersionedSnapshot room = new VersionedSnapshot(7L,
+      new RoomSnapshotResponse("ROOM01", "1", List.of(), "WAITING", 0, 0));
+
+  @Test
+  void 처음조회하면_ETag와함께본문을준다() {
+    when(roomService.getVersionedRoom("ROOM01")).thenReturn(room);
+
+    ResponseEntity<ApiResponse<RoomSnapshotResponse>> response =
+        roomController.getRoom("ROOM01", request(null));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isEqualTo(room.etag());
+    assertThat(response.getBody().getData()).isEqualTo(room.snapshot());
+  }
+
+  @Test
+  void 버전이같으면_본문없이304를준다() {
+    when(roomService.getVersionedRoom("ROOM01")).thenReturn(room);
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    ResponseEntity<ApiResponse<RoomSnapshotResponse>> response =
+        roomController.getRoom("ROOM01", request(room.etag(), servletResponse));
+
+    assertThat(response).isNull();
+    assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo(room.etag());
+  }
+
+  @Test
+  void 버전이바뀌었으면_새본문을준다() {
+    when(roomService.getVersionedRoom("ROOM01")).thenReturn(room);
+    String stale = new VersionedSnapshot(6L, room.snapshot()).etag();
+
+    ResponseEntity<ApiResponse<RoomSnapshotResponse>> response =
+        roomController.getRoom("ROOM01", request(stale));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isEqualTo(room.etag());
+  }
+
+  private ServletWebRequest request(String ifNoneMatch) {
+    return request(ifNoneMatch, new MockHttpServletResponse());
+  }
+
+  private ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rooms/ROOM01");
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return new ServletWebRequest(request, response);
+  }
+}
@@ -1,19 +1,29 @@
 package com.catchmind_be.room;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.catchmind_be.common.utils.RoomCodeGenerator;
 import com.catchmind_be.game.GameService;
 import com.catchmind_be.game.GameSessionRepository;
 import com.catchmind_be.game.MemoryGameSessionRepository;
+import com.catchmind_be.game.RoomCommandExecutor;
 import com.catchmind_be.player.PlayerRepository;
+import com.catchmind_be.player.PlayerSlotRegistry;
 import com.catchmind_be.player.entity.Player;
 import com.catchmind_be.player.response.PlayerResponse;
 import com.catchmind_be.room.entity.Room;
 import com.catchmind_be.room.response.LeaveRoomResponse;
 import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.websocket.RoomEventLog;
+import com.catchmind_be.websocket.chat.ChatFilter;
+import com.catchmind_be.websocket.StrokeSimplifier;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,11 +32,14 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
-@Import({RoomService.class, RoomServiceJpaTest.TestConfig.class})
+@Import({RoomService.class, RoomSnapshotAssembler.class, RoomSnapshotCache.class, RoomServiceJpaTest.TestConfig.class})
 class RoomServiceJpaTest {
 
   @Autowired
@@ -38,6 +51,14 @@ class RoomServiceJpaTest {
   @Autowired
   private PlayerRepository playerRepository;
 
+  @Autowired
+  private RoomCodeGenerator roomCodeGenerator;
+
+  @AfterEach
+  void tearDown() {
+    Mockito.reset(roomCodeGenerator);
+  }
+
   @Test
   void 방을_만들면_호스트가_생기고_hostPlayerId가_세팅된다() {
     Room saved = roomService.createRoom("host-nick");
@@ -65,6 +86,25 @@ class RoomServiceJpaTest {
     assertThat(room1.getCode()).isNotEqualTo(room2.getCode());
   }
 
+  @Test
+  void 코드가_겹치면_새코드로_다시시도한다() {
+    Room existing = roomService.createRoom("first");
+    doReturn(existing.getCode(), "FRESH1").when(roomCodeGenerator).nextCode();
+
+    Room created = roomService.createRoom("second");
+
+    assertThat(created.getCode()).isEqualTo("FRESH1");
+    assertThat(roomRepository.findByCode("FRESH1")).isPresent();
+  }
+
+  @Test
+  void 코드충돌이아닌_제약위반은_다시시도하지않고_그대로던진다() {
+    assertThatThrownBy(() -> roomService.createRoom("n".repeat(300)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+
+    verify(roomCodeGenerator, times(1)).nextCode();
+  }
+
   @Test
   void 마지막_한명이_나가면_방이_삭제된다() {
     Room room = roomService.createRoom("host22");
@@ -115,6 +155,25 @@ class RoomServiceJpaTest {
     assertThat(responseGuestId).isEqualTo(guest.getId());
   }
 
+  @Test
+  void 방_조회는_입장순서대로_플레이어와_방정보를_한번에_돌려준다() {
+    Room created = roomService.createRoom("host-nick");
+    String roomCode = created.getCode();
+    roomService.joinRoom(roomCode, "first");
+    roomService.joinRoom(roomCode, "second");
+
+    RoomSnapshotResponse snapshot = roomService.getRoom(roomCode);
+
+    assertThat(snapshot.roomCode()).isEqualTo(roomCode);
+    assertThat(snapshot.hostPlayerId()).isEqualTo(created.getHostPlayerId());
+    assertThat(snapshot.status()).isEqualTo("WAITING");
+    assertThat(snapshot.players())
+        .extracting(PlayerResponse::nickname)
+        .containsExactly("host-nick", "first", "second");
+    assertThat(snapshot.players()).extracting(PlayerResponse::isHost).containsExactly(true, false, false);
+    assertThat(snapshot.currentRound()).isZero();
+  }
+
 
 
   @Test
@@ -177,7 +236,32 @@ class RoomServiceJpaTest {
   static class TestConfig {
     @Bean
     RoomCodeGenerator roomCodeGenerator() {
-      return new RoomCodeGenerator();
+      return Mockito.spy(new RoomCodeGenerator());
+    }
+
+    @Bean
+    PlayerSlotRegistry playerSlotRegistry() {
+      return new PlayerSlotRegistry();
+    }
+
+    @Bean
+    StrokeSimplifier strokeSimplifier() {
+      return new StrokeSimplifier(0);
+    }
+
+    @Bean
+    RoomEventLog roomEventLog() {
+      return new RoomEventLog(16);
+    }
+
+    @Bean
+    ChatFilter chatFilter() {
+      return new ChatFilter(new String[0]);
+    }
+
+    @Bean
+    RoomCommandExecutor roomCommandExecutor() {
+      return new RoomCommandExecutor();
     }
 
     @Bean
@@ -190,6 +274,11 @@ class RoomServiceJpaTest {
       return Mockito.mock(GameService.class);
     }
 
+    @Bean
+    TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+      return new TransactionTemplate(transactionManager);
+    }
+
     @Bean
     SimpMessagingTemplate simpMessagingTemplate() {
       return Mockito.mock(SimpMessagingTemplate.class);
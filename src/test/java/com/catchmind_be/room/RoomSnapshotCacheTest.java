@@ -0,0 +1,90 @@
+package com.catchmind_be.room;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import com.catchmind_be.room.RoomSnapshotCache.VersionedSnapshot;
+import com.catchmind_be.room.response.RoomSnapshotResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class RoomSnapshotCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Function<String, RoomSnapshotResponse> loader = code -> {
+    loads.incrementAndGet();
+    return new RoomSnapshotResponse(code, "1", List.of(), "WAITING", 0, 0);
+  };
+
+  @Test
+  void 두번째조회부터는_DB를보지않는다() {
+    RoomSnapshotCache cache = new RoomSnapshotCache(16, Duration.ofMinutes(5), nanos::get);
+
+    VersionedSnapshot first = cache.get("ROOM01", loader);
+    VersionedSnapshot second = cache.get("ROOM01", loader);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void 비우면_버전이올라가고_다시읽는다() {
+    RoomSnapshotCache cache = new RoomSnapshotCache(16, Duration.ofMinutes(5), nanos::get);
+    VersionedSnapshot before = cache.get("ROOM01", loader);
+
+    cache.invalidate("ROOM01");
+    VersionedSnapshot after = cache.get("ROOM01", loader);
+
+    assertThat(after.version()).isGreaterThan(before.version());
+    assertThat(after.etag()).isNotEqualTo(before.etag());
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void 쫓겨났다다시들어와도_버전은되돌아가지않는다() {
+    RoomSnapshotCache cache = new RoomSnapshotCache(16, Duration.ofMinutes(5), nanos::get);
+    VersionedSnapshot before = cache.get("ROOM01", loader);
+
+    cache.evict("ROOM01");
+
+    assertThat(cache.get("ROOM01", loader).version()).isGreaterThan(before.version());
+  }
+
+  @Test
+  void 오래안본방과_넘치는방은_정리된다() {
+    RoomSnapshotCache cache = new RoomSnapshotCache(2, Duration.ofSeconds(10), nanos::get);
+    cache.get("ROOM01", loader);
+    nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+    cache.get("ROOM02", loader);
+    assertThat(cache.size()).isEqualTo(1);
+
+    nanos.incrementAndGet();
+    cache.get("ROOM03", loader);
+    nanos.incrementAndGet();
+    cache.get("ROOM04", loader);
+    assertThat(cache.size()).isEqualTo(2);
+
+    // 가장 오래전에 본 ROOM02 가 빠졌다
+    cache.get("ROOM02", loader);
+    assertThat(loads).hasValue(5);
+  }
+
+  @Test
+  void 없는방은_캐시에남기지않는다() {
+    RoomSnapshotCache cache = new RoomSnapshotCache(16, Duration.ofMinutes(5), nanos::get);
+
+    assertThatThrownBy(() -> cache.get("NOPE00", code -> {
+      throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+    })).isInstanceOf(CustomException.class);
+
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -0,0 +1,56 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class BinaryDrawSubscriptionsTest {
+
+  private final BinaryDrawSubscriptions subscriptions = new BinaryDrawSubscriptions();
+
+  @Test
+  void 바이너리토픽을_구독한방만_구독자가있다() {
+    subscriptions.onSubscribe(new SessionSubscribeEvent(this, 구독("s1", "sub-0", "/topic/rooms/ROOM01/draw/binary")));
+    subscriptions.onSubscribe(new SessionSubscribeEvent(this, 구독("s1", "sub-1", "/topic/rooms/ROOM02/draw")));
+
+    assertThat(subscriptions.hasSubscribers("ROOM01")).isTrue();
+    assertThat(subscriptions.hasSubscribers("ROOM02")).isFalse();
+  }
+
+  @Test
+  void 마지막구독자가_구독해제하거나_끊기면_구독자가없다() {
+    subscriptions.onSubscribe(new SessionSubscribeEvent(this, 구독("s1", "sub-0", "/topic/rooms/ROOM01/draw/binary")));
+    subscriptions.onSubscribe(new SessionSubscribeEvent(this, 구독("s2", "sub-0", "/topic/rooms/ROOM01/draw/binary")));
+
+    subscriptions.onUnsubscribe(new SessionUnsubscribeEvent(this, 구독해제("s1", "sub-0")));
+    assertThat(subscriptions.hasSubscribers("ROOM01")).isTrue();
+
+    subscriptions.onDisconnect(new SessionDisconnectEvent(this, 구독해제("s2", null), "s2", CloseStatus.NORMAL));
+    assertThat(subscriptions.hasSubscribers("ROOM01")).isFalse();
+  }
+
+  private Message<byte[]> 구독(String sessionId, String subscriptionId, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(subscriptionId);
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private Message<byte[]> 구독해제(String sessionId, String subscriptionId) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+    accessor.setSessionId(sessionId);
+    if (subscriptionId != null) {
+      accessor.setSubscriptionId(subscriptionId);
+    }
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
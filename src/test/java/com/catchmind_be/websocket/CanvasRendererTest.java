@@ -0,0 +1,78 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.catchmind_be.common.exception.CustomException;
+import com.catchmind_be.common.exception.code.ErrorCode;
+import com.catchmind_be.room.RoomRepository;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CanvasRendererTest {
+
+  @Mock
+  private RoomRepository roomRepository;
+
+  private CanvasRenderer canvasRenderer;
+
+  @AfterEach
+  void tearDown() {
+    canvasRenderer.shutdown();
+  }
+
+  @Test
+  void 그린획이_PNG에반영되고_새획이없으면_같은PNG를재사용한다() throws IOException {
+    canvasRenderer = new CanvasRenderer(roomRepository, 40, 30, 16);
+    canvasRenderer.draw("ROOM01", new DrawMessage("1", 0, 10, 40, 10, "#000000", 4));
+
+    byte[] first = canvasRenderer.renderPng("ROOM01");
+    byte[] second = canvasRenderer.renderPng("ROOM01");
+
+    assertThat(pixel(first, 20, 10)).isEqualTo(Color.BLACK.getRGB());
+    assertThat(pixel(first, 20, 25)).isEqualTo(Color.WHITE.getRGB());
+    assertThat(second).isSameAs(first);
+    verify(roomRepository, never()).existsByCode("ROOM01");
+  }
+
+  @Test
+  void 획이없는방은_빈캔버스를_없는방은_ROOM_NOT_FOUND를준다() throws IOException {
+    canvasRenderer = new CanvasRenderer(roomRepository, 40, 30, 16);
+    when(roomRepository.existsByCode("ROOM01")).thenReturn(true);
+    when(roomRepository.existsByCode("NOPE00")).thenReturn(false);
+
+    assertThat(pixel(canvasRenderer.renderPng("ROOM01"), 20, 10)).isEqualTo(Color.WHITE.getRGB());
+    assertThatThrownBy(() -> canvasRenderer.renderPng("NOPE00"))
+        .isInstanceOf(CustomException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_NOT_FOUND);
+  }
+
+  @Test
+  void 지운방은_다시빈캔버스가된다() throws IOException {
+    canvasRenderer = new CanvasRenderer(roomRepository, 40, 30, 16);
+    when(roomRepository.existsByCode("ROOM01")).thenReturn(true);
+    canvasRenderer.draw("ROOM01", new DrawMessage("1", 0, 10, 40, 10, "#000000", 4));
+
+    canvasRenderer.clear("ROOM01");
+
+    assertThat(pixel(canvasRenderer.renderPng("ROOM01"), 20, 10)).isEqualTo(Color.WHITE.getRGB());
+  }
+
+  private int pixel(byte[] png, int x, int y) throws IOException {
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+    return image.getRGB(x, y);
+  }
+}
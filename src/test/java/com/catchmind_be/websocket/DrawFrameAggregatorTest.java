@@ -0,0 +1,49 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.catchmind_be.websocket.response.DrawFrame;
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class DrawFrameAggregatorTest {
+
+  private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+  @Test
+  void 주기flush와_개수초과flush가_겹쳐도_획순서와순번이_그대로다() {
+    DrawFrameAggregator aggregator = new DrawFrameAggregator(
+        template, new StrokeSimplifier(0), new RoomEventLog(16), new BinaryDrawSubscriptions(), 20, 4);
+    List<DrawMessage> offered = IntStream.range(0, 2000)
+        .mapToObj(i -> new DrawMessage("1", i, 0, i, 5, "#000000", 2))
+        .toList();
+
+    AtomicBoolean offering = new AtomicBoolean(true);
+    CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+      while (offering.get()) {
+        aggregator.flushAll();
+      }
+    });
+    offered.forEach(message -> aggregator.offer("ROOM01", message));
+    offering.set(false);
+    flusher.join();
+    aggregator.flushAll();
+
+    ArgumentCaptor<Object> frames = ArgumentCaptor.forClass(Object.class);
+    verify(template, atLeastOnce()).convertAndSend(eq("/topic/rooms/ROOM01/draw"), frames.capture());
+    List<DrawFrame> sent = frames.getAllValues().stream().map(DrawFrame.class::cast).toList();
+    assertThat(sent.stream().flatMap(frame -> frame.strokes().stream()).toList()).isEqualTo(offered);
+    assertThat(sent.stream().mapToLong(DrawFrame::seq).toArray())
+        .isEqualTo(IntStream.rangeClosed(1, sent.size()).asLongStream().toArray());
+  }
+}
@@ -0,0 +1,82 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.game.response.GameEventMessage;
+import com.catchmind_be.websocket.response.ResyncEvent;
+import com.catchmind_be.websocket.response.ResyncResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RoomEventLogTest {
+
+  private static final String DESTINATION = "/topic/rooms/ROOM1/game";
+
+  @Test
+  void 방마다_순번이증가한다() {
+    RoomEventLog roomEventLog = new RoomEventLog(4);
+
+    GameEventMessage first = roomEventLog.publish("ROOM1", DESTINATION, 이벤트(1), sent -> { });
+    GameEventMessage second = roomEventLog.publish("ROOM1", DESTINATION, 이벤트(2), sent -> { });
+    GameEventMessage other = roomEventLog.publish("ROOM2", DESTINATION, 이벤트(1), sent -> { });
+
+    assertThat(first.seq()).isEqualTo(1L);
+    assertThat(second.seq()).isEqualTo(2L);
+    assertThat(other.seq()).isEqualTo(1L);
+    assertThat(roomEventLog.lastSeq("ROOM1")).isEqualTo(2L);
+  }
+
+  @Test
+  void 재동기화_빠진구간만돌려준다() {
+    RoomEventLog roomEventLog = new RoomEventLog(4);
+    for (int i = 1; i <= 6; i++) {
+      roomEventLog.publish("ROOM1", DESTINATION, 이벤트(i), sent -> { });
+    }
+
+    ResyncResponse response = roomEventLog.resync("ROOM1", 3);
+
+    assertThat(response.complete()).isTrue();
+    assertThat(response.lastSeq()).isEqualTo(6L);
+    assertThat(response.events()).extracting(ResyncEvent::seq).containsExactly(4L, 5L, 6L);
+    assertThat(((GameEventMessage) response.events().get(0).payload()).currentRound()).isEqualTo(4);
+  }
+
+  @Test
+  void 버퍼에서밀려난구간이면_전체재조회요청() {
+    RoomEventLog roomEventLog = new RoomEventLog(4);
+    for (int i = 1; i <= 6; i++) {
+      roomEventLog.publish("ROOM1", DESTINATION, 이벤트(i), sent -> { });
+    }
+
+    ResyncResponse response = roomEventLog.resync("ROOM1", 1);
+
+    assertThat(response.complete()).isFalse();
+    assertThat(response.events()).isEmpty();
+  }
+
+  @Test
+  void 보내기는_순번순서대로_일어난다() throws InterruptedException {
+    RoomEventLog roomEventLog = new RoomEventLog(4);
+    List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          roomEventLog.publish("ROOM1", DESTINATION, 이벤트(i), message -> sent.add(message.seq()));
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(sent).hasSize(4_000).isSorted();
+  }
+
+  private GameEventMessage 이벤트(int round) {
+    return new GameEventMessage("ROUND_STARTED", round, 6, "1", "word", false);
+  }
+}
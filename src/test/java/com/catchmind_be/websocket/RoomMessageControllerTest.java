@@ -1,22 +1,26 @@
 package com.catchmind_be.websocket;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.catchmind_be.game.GameService;
 import com.catchmind_be.game.entity.GameSession;
 import com.catchmind_be.game.response.GuessResult;
-import com.catchmind_be.player.response.PlayerResponse;
-import com.catchmind_be.room.RoomService;
-import com.catchmind_be.room.response.RoomSnapshotResponse;
+import com.catchmind_be.journal.StrokeJournal;
+import com.catchmind_be.websocket.chat.ChatFilter;
 import com.catchmind_be.websocket.response.ChatMessage;
-import java.util.List;
+import com.catchmind_be.websocket.response.DrawMessage;
+import com.catchmind_be.websocket.response.GuessHintMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
@@ -26,9 +30,19 @@ class RoomMessageControllerTest {
   @Mock
   private GameService gameService;
   @Mock
-  private RoomService roomService;
-  @Mock
   private SimpMessagingTemplate template;
+  @Mock
+  private DrawFrameAggregator drawFrameAggregator;
+  @Mock
+  private StrokeHistory strokeHistory;
+  @Mock
+  private CanvasRenderer canvasRenderer;
+  @Mock
+  private RoomEventLog roomEventLog;
+  @Mock
+  private StrokeJournal strokeJournal;
+  @Spy
+  private ChatFilter chatFilter = new ChatFilter(new String[]{"바보"});
 
   @InjectMocks
   private RoomMessageController controller;
@@ -57,8 +71,7 @@ class RoomMessageControllerTest {
 
     verify(template).convertAndSend("/topic/rooms/" + roomCode + "/chat", chatMessage);
     verify(gameService).guessWord(roomCode, chatMessage.playerId(), chatMessage.message());
-    verify(roomService, never()).getRoom(any());
-    verify(roomService, never()).broadcastState(any());
+    verify(gameService, never()).broadcastScoreUpdated(any(), any());
   }
 
   @Test
@@ -70,36 +83,98 @@ class RoomMessageControllerTest {
 
     controller.sendMessage(roomCode, chatMessage);
 
-    verify(roomService, never()).getRoom(any());
-    verify(roomService, never()).broadcastState(any());
+    verify(gameService, never()).broadcastScoreUpdated(any(), any());
+  }
+
+  @Test
+  void 그리는사람채팅은_정답과금칙어를가려서전송() {
+    String roomCode = "ROOM6";
+    ChatMessage chatMessage = new ChatMessage("6", "drawer", "정답은 사 과 바보");
+    when(gameService.drawerAnswer(roomCode, "6")).thenReturn("사과");
+    when(gameService.guessWord(roomCode, chatMessage.playerId(), chatMessage.message()))
+        .thenReturn(GuessResult.inCorrect());
+
+    controller.sendMessage(roomCode, chatMessage);
+
+    verify(template).convertAndSend("/topic/rooms/" + roomCode + "/chat",
+        new ChatMessage("6", "drawer", "정답은 * * **"));
   }
 
   @Test
-  void 정답맞춘경우_방상태브로드캐스트() {
+  void 아깝게틀린경우_본인에게힌트반환() {
+    String roomCode = "ROOM5";
+    ChatMessage chatMessage = new ChatMessage("5", "tester", "사과나뮤");
+    GameSession gameSession = GameSession.create(1L, roomCode, 2, 60);
+    when(gameService.guessWord(roomCode, chatMessage.playerId(), chatMessage.message()))
+        .thenReturn(GuessResult.nearMiss(gameSession, "5"));
+
+    GuessHintMessage hint = controller.sendMessage(roomCode, chatMessage);
+
+    assertThat(hint).isEqualTo(new GuessHintMessage(roomCode, "CLOSE"));
+    verify(template).convertAndSend("/topic/rooms/" + roomCode + "/chat", chatMessage);
+    verify(gameService, never()).broadcastScoreUpdated(any(), any());
+  }
+
+  @Test
+  void 정답맞춘경우_점수이벤트만브로드캐스트() {
     String roomCode = "ROOM3";
     ChatMessage chatMessage = new ChatMessage("3", "tester", "answer");
     GameSession gameSession = GameSession.create(1L, roomCode, 2, 60);
-    GuessResult correctResult = new GuessResult(true, gameSession);
-    RoomSnapshotResponse snapshotResponse = new RoomSnapshotResponse(
-        roomCode,
-        "host",
-        List.<PlayerResponse>of(),
-        "PLAYING",
-        2,
-        1
-    );
+    GuessResult correctResult = GuessResult.correct(gameSession, "3", 100, 1);
 
     when(gameService.guessWord(roomCode, chatMessage.playerId(), chatMessage.message()))
         .thenReturn(correctResult);
-    when(roomService.getRoom(roomCode)).thenReturn(snapshotResponse);
 
     controller.sendMessage(roomCode, chatMessage);
 
     verify(template).convertAndSend("/topic/rooms/" + roomCode + "/chat", chatMessage);
     verify(gameService).guessWord(roomCode, chatMessage.playerId(), chatMessage.message());
-    verify(roomService).getRoom(roomCode);
-    verify(roomService).broadcastState(snapshotResponse);
+    verify(gameService).broadcastScoreUpdated(roomCode, correctResult);
   }
 
+  @Test
+  void 그리기권한있으면_집계기로전달() {
+    String roomCode = "ROOM4";
+    DrawMessage drawMessage = new DrawMessage("4", 0, 0, 10, 10, "#000000", 2);
+    when(gameService.canDraw(roomCode, drawMessage)).thenReturn(true);
+
+    controller.drawMessage(roomCode, drawMessage);
+
+    verify(strokeHistory).append(roomCode, drawMessage);
+    verify(canvasRenderer).draw(roomCode, drawMessage);
+    verify(strokeJournal).append(roomCode, drawMessage);
+    verify(drawFrameAggregator).offer(roomCode, drawMessage);
+    verifyNoInteractions(template);
+  }
 
+  @Test
+  void 그리기색은_기록과같은모양으로바꾸고_기록할수없는색은_버린다() {
+    String roomCode = "ROOM4";
+    DrawMessage shortHex = new DrawMessage("4", 0, 0, 10, 10, "#F00", 2);
+    DrawMessage named = new DrawMessage("4", 0, 0, 10, 10, "red", 2);
+    when(gameService.canDraw(roomCode, shortHex)).thenReturn(true);
+    when(gameService.canDraw(roomCode, named)).thenReturn(true);
+
+    controller.drawMessage(roomCode, shortHex);
+    controller.drawMessage(roomCode, named);
+
+    DrawMessage normalized = new DrawMessage("4", 0, 0, 10, 10, "#ff0000", 2);
+    verify(strokeHistory).append(roomCode, normalized);
+    verify(canvasRenderer).draw(roomCode, normalized);
+    verify(strokeJournal).append(roomCode, normalized);
+    verify(drawFrameAggregator).offer(roomCode, normalized);
+    verify(drawFrameAggregator, never()).offer(roomCode, named);
+  }
+
+  @Test
+  void 그리기권한없으면_전달안함() {
+    String roomCode = "ROOM5";
+    DrawMessage drawMessage = new DrawMessage("5", 0, 0, 10, 10, "#000000", 2);
+    when(gameService.canDraw(roomCode, drawMessage)).thenReturn(false);
+
+    controller.drawMessage(roomCode, drawMessage);
+
+    verify(drawFrameAggregator, never()).offer(anyString(), any());
+    verifyNoInteractions(strokeHistory, canvasRenderer, strokeJournal);
+  }
 }
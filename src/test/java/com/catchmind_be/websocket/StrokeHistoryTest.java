@@ -0,0 +1,39 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.player.PlayerSlotRegistry;
+import com.catchmind_be.websocket.codec.StrokeCodec;
+import com.catchmind_be.websocket.response.DrawFrame;
+import com.catchmind_be.websocket.response.DrawMessage;
+import org.junit.jupiter.api.Test;
+
+class StrokeHistoryTest {
+
+  @Test
+  void 용량을넘으면_오래된획부터덮어쓴다() {
+    PlayerSlotRegistry playerSlotRegistry = new PlayerSlotRegistry();
+    playerSlotRegistry.assign("ROOM1", "1");
+    StrokeHistory strokeHistory = new StrokeHistory(playerSlotRegistry, 3);
+
+    for (int i = 0; i < 5; i++) {
+      strokeHistory.append("ROOM1", new DrawMessage("1", i, i, i + 1, i + 1, "#000000", 2));
+    }
+
+    assertThat(strokeHistory.snapshot("ROOM1")).hasSize(3 * StrokeCodec.RECORD_SIZE);
+    DrawFrame frame = strokeHistory.replay("ROOM1");
+    assertThat(frame.strokes()).extracting(DrawMessage::fromX).containsExactly(2.0, 3.0, 4.0);
+    assertThat(frame.strokes()).extracting(DrawMessage::playerId).containsOnly("1");
+  }
+
+  @Test
+  void 초기화하면_빈기록() {
+    StrokeHistory strokeHistory = new StrokeHistory(new PlayerSlotRegistry(), 8);
+    strokeHistory.append("ROOM2", new DrawMessage("1", 0, 0, 1, 1, "#000000", 2));
+
+    strokeHistory.clear("ROOM2");
+
+    assertThat(strokeHistory.snapshot("ROOM2")).isEmpty();
+    assertThat(strokeHistory.replay("ROOM2").strokes()).isEmpty();
+  }
+}
@@ -0,0 +1,49 @@
+package com.catchmind_be.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.websocket.response.DrawMessage;
+import org.junit.jupiter.api.Test;
+
+class StrokeSimplifierTest {
+
+  private final StrokeSimplifier strokeSimplifier = new StrokeSimplifier(0);
+
+  @Test
+  void 거의일직선인획은_하나로합친다() {
+    StrokeSimplifier.Run run = new StrokeSimplifier.Run();
+    DrawMessage first = 획(0, 0, 10, 0.2);
+    DrawMessage second = 획(10, 0.2, 20, 0);
+
+    DrawMessage merged = strokeSimplifier.merge(first, second, run, 0.5);
+
+    assertThat(merged).isEqualTo(획(0, 0, 20, 0));
+  }
+
+  @Test
+  void 꺾인획과_끊긴획은_합치지않는다() {
+    StrokeSimplifier.Run run = new StrokeSimplifier.Run();
+
+    assertThat(strokeSimplifier.merge(획(0, 0, 10, 0), 획(10, 0, 10, 10), run, 0.5)).isNull();
+    assertThat(strokeSimplifier.merge(획(0, 0, 10, 0), 획(12, 0, 20, 0), run, 0.5)).isNull();
+  }
+
+  @Test
+  void 이전중간점이_오차를넘으면_합치지않는다() {
+    StrokeSimplifier.Run run = new StrokeSimplifier.Run();
+    DrawMessage merged = strokeSimplifier.merge(획(0, 0, 10, 0.45), 획(10, 0.45, 20, 0), run, 0.5);
+    assertThat(merged).isEqualTo(획(0, 0, 20, 0));
+
+    // (20, 0) 은 새 선분에 가깝지만 앞서 합쳐진 (10, 0.45) 가 0.5 이상 벗어난다
+    assertThat(strokeSimplifier.merge(merged, 획(20, 0, 30, -0.45), run, 0.5)).isNull();
+  }
+
+  @Test
+  void 허용오차가0이면_비활성() {
+    assertThat(strokeSimplifier.merge(획(0, 0, 10, 0), 획(10, 0, 20, 0), new StrokeSimplifier.Run(), 0)).isNull();
+  }
+
+  private DrawMessage 획(double fromX, double fromY, double toX, double toY) {
+    return new DrawMessage("1", fromX, fromY, toX, toY, "#000000", 2);
+  }
+}
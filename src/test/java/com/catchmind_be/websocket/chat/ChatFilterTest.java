@@ -0,0 +1,48 @@
+package com.catchmind_be.websocket.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.websocket.response.ChatMessage;
+import org.junit.jupiter.api.Test;
+
+class ChatFilterTest {
+
+  private final ChatFilter chatFilter = new ChatFilter(new String[]{"bad", "바보", "바보야", "he"});
+
+  @Test
+  void 금칙어는_공백과대소문자를무시하고가린다() {
+    assertThat(filter("you are BAD", null)).isEqualTo("you are ***");
+    assertThat(filter("바 보야 안녕", null)).isEqualTo("* ** 안녕");
+    assertThat(filter("ushers", null)).isEqualTo("us**rs");
+  }
+
+  @Test
+  void 전각문자와호환자모도_정답비교와같이접어서가린다() {
+    assertThat(filter("ＢＡＤ word", null)).isEqualTo("*** word");
+    assertThat(filter("ㅂㅏㅂㅗ 야", null)).isEqualTo("**** *");
+    assertThat(filter("ㅅㅏ과 그리는 중", "사과")).isEqualTo("*** 그리는 중");
+  }
+
+  @Test
+  void 걸린게없으면_원래메시지를그대로돌려준다() {
+    ChatMessage message = new ChatMessage("1", "tester", "안녕하세요");
+
+    assertThat(chatFilter.filter("ROOM1", message, null)).isSameAs(message);
+  }
+
+  @Test
+  void 정답은_그리는사람이보낼때만가린다() {
+    assertThat(filter("사과 그리는 중", "사과")).isEqualTo("** 그리는 중");
+    assertThat(filter("사과 그리는 중", null)).isEqualTo("사과 그리는 중");
+  }
+
+  @Test
+  void 라운드가바뀌면_새정답으로다시만든다() {
+    assertThat(filter("사과 바나나", "사과")).isEqualTo("** 바나나");
+    assertThat(filter("사과 바나나", "바나나")).isEqualTo("사과 ***");
+  }
+
+  private String filter(String text, String drawerAnswer) {
+    return chatFilter.filter("ROOM1", new ChatMessage("1", "tester", text), drawerAnswer).message();
+  }
+}
@@ -0,0 +1,47 @@
+package com.catchmind_be.websocket.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.catchmind_be.websocket.response.DrawMessage;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class StrokeCodecTest {
+
+  @Test
+  void 팔레트색상_인코딩후디코딩() {
+    DrawMessage message = new DrawMessage("7", 10.5, 20.25, 300.125, 400, "#FF0000", 3.5);
+    ByteBuffer buffer = ByteBuffer.allocate(StrokeCodec.RECORD_SIZE);
+
+    StrokeCodec.encode(message, 3, buffer);
+
+    assertThat(buffer.position()).isEqualTo(StrokeCodec.RECORD_SIZE);
+    assertThat(StrokeCodec.readSlot(buffer, 0)).isEqualTo(3);
+    DrawMessage decoded = StrokeCodec.decode(buffer, 0, "7");
+    assertThat(decoded).isEqualTo(new DrawMessage("7", 10.5, 20.25, 300.125, 400, "#ff0000", 3.5));
+  }
+
+  @Test
+  void 팔레트밖색상은RGB로보존() {
+    DrawMessage message = new DrawMessage("1", -4, 0, 8191, 12, "#12ab9C", 1);
+    ByteBuffer buffer = ByteBuffer.allocate(StrokeCodec.RECORD_SIZE);
+
+    StrokeCodec.encode(message, -1, buffer);
+
+    assertThat(StrokeCodec.readSlot(buffer, 0)).isEqualTo(-1);
+    DrawMessage decoded = StrokeCodec.decode(buffer, 0, null);
+    assertThat(decoded.color()).isEqualTo("#12ab9c");
+    assertThat(decoded.fromX()).isEqualTo(-4);
+    assertThat(decoded.toX()).isEqualTo(4095.875);
+  }
+
+  @Test
+  void 색은_기록으로되살릴수있는모양으로만_받는다() {
+    assertThat(StrokeCodec.normalizeColor("#FF0000")).isEqualTo("#ff0000");
+    assertThat(StrokeCodec.normalizeColor("#1aF")).isEqualTo("#11aaff");
+    assertThat(StrokeCodec.normalizeColor(null)).isEqualTo("#000000");
+    assertThat(StrokeCodec.normalizeColor("red")).isNull();
+    assertThat(StrokeCodec.normalizeColor("#12345678")).isNull();
+    assertThat(StrokeCodec.normalizeColor("#12345g")).isNull();
+  }
+}
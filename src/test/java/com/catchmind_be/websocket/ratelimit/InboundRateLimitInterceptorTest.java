@@ -0,0 +1,104 @@
+package com.catchmind_be.websocket.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class InboundRateLimitInterceptorTest {
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void 버스트를넘은그리기메시지는_버리고집계한다() {
+    InboundRateLimitInterceptor interceptor = 인터셉터(RateLimitPolicy.DROP);
+
+    assertThat(interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel)).isNotNull();
+    assertThat(interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel)).isNotNull();
+    assertThat(interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel)).isNull();
+
+    // 다른 세션과 다른 목적지는 영향을 받지 않는다
+    assertThat(interceptor.preSend(메시지("s2", "/app/rooms/ROOM1/draw"), channel)).isNotNull();
+    assertThat(interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/chat"), channel)).isNotNull();
+
+    assertThat(interceptor.drawDropCount()).isEqualTo(1);
+    assertThat(interceptor.chatDropCount()).isZero();
+  }
+
+  @Test
+  void 합치기정책은_밀린획을_순서대로모아두었다가_다시보낸다() {
+    InboundRateLimitInterceptor interceptor = 인터셉터(RateLimitPolicy.COALESCE);
+    interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel);
+    interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel);
+
+    Message<?> second = 메시지("s1", "/app/rooms/ROOM1/draw");
+    Message<?> third = 메시지("s1", "/app/rooms/ROOM1/draw");
+    assertThat(interceptor.preSend(second, channel)).isNull();
+    // 초당 100개라 20ms 면 토큰 2개가 다시 찬다
+    clock.addAndGet(20_000_000L);
+    // 토큰이 다시 찼어도 밀린 획이 있으면 새 획이 앞지르지 못한다
+    assertThat(interceptor.preSend(third, channel)).isNull();
+    assertThat(interceptor.drawDropCount()).isZero();
+
+    interceptor.releaseCoalesced();
+
+    InOrder inOrder = inOrder(channel);
+    inOrder.verify(channel).send(second);
+    inOrder.verify(channel).send(third);
+  }
+
+  @Test
+  void 합치기정책의_채팅은_마지막메시지만남긴다() {
+    InboundRateLimitInterceptor interceptor = 인터셉터(RateLimitPolicy.COALESCE);
+    interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/chat"), channel);
+    interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/chat"), channel);
+
+    Message<?> second = 메시지("s1", "/app/rooms/ROOM1/chat");
+    Message<?> latest = 메시지("s1", "/app/rooms/ROOM1/chat");
+    assertThat(interceptor.preSend(second, channel)).isNull();
+    assertThat(interceptor.preSend(latest, channel)).isNull();
+    assertThat(interceptor.chatDropCount()).isEqualTo(1);
+
+    // 초당 100개라 20ms 면 토큰 2개가 다시 찬다
+    clock.addAndGet(20_000_000L);
+    interceptor.releaseCoalesced();
+
+    verify(channel, never()).send(second);
+    verify(channel).send(latest);
+  }
+
+  @Test
+  void 연결종료시_세션버킷정리() {
+    InboundRateLimitInterceptor interceptor = 인터셉터(RateLimitPolicy.DROP);
+    interceptor.preSend(메시지("s1", "/app/rooms/ROOM1/draw"), channel);
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+    accessor.setSessionId("s1");
+    interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel);
+
+    assertThat(interceptor.trackedSessionCount()).isZero();
+  }
+
+  private InboundRateLimitInterceptor 인터셉터(RateLimitPolicy policy) {
+    return new InboundRateLimitInterceptor(mock(ThreadPoolTaskScheduler.class), 100, 2, policy, 100, 2, policy, clock::get);
+  }
+
+  private Message<?> 메시지(String sessionId, String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(sessionId);
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}